@@ -42,6 +42,8 @@ public class QComment extends EntityPathBase<Comment> {
 
     public final com.jpa2.domain.post.QPost post;
 
+    public final NumberPath<Long> reCommentCount = createNumber("reCommentCount", Long.class);
+
     public final com.jpa2.domain.member.QMember writer;
 
     public QComment(String variable) {
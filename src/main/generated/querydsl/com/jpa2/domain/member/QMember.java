@@ -24,6 +24,8 @@ public class QMember extends EntityPathBase<Member> {
 
     public final NumberPath<Integer> age = createNumber("age", Integer.class);
 
+    public final NumberPath<Long> authVersion = createNumber("authVersion", Long.class);
+
     public final ListPath<com.jpa2.domain.comment.Comment, com.jpa2.domain.comment.QComment> commentList = this.<com.jpa2.domain.comment.Comment, com.jpa2.domain.comment.QComment>createList("commentList", com.jpa2.domain.comment.Comment.class, com.jpa2.domain.comment.QComment.class, PathInits.DIRECT2);
 
     //inherited
@@ -42,12 +44,12 @@ public class QMember extends EntityPathBase<Member> {
 
     public final ListPath<com.jpa2.domain.post.Post, com.jpa2.domain.post.QPost> postList = this.<com.jpa2.domain.post.Post, com.jpa2.domain.post.QPost>createList("postList", com.jpa2.domain.post.Post.class, com.jpa2.domain.post.QPost.class, PathInits.DIRECT2);
 
-    public final StringPath refreshToken = createString("refreshToken");
-
     public final EnumPath<Role> role = createEnum("role", Role.class);
 
     public final StringPath username = createString("username");
 
+    public final DateTimePath<java.time.LocalDateTime> withdrawnDate = createDateTime("withdrawnDate", java.time.LocalDateTime.class);
+
     public QMember(String variable) {
         super(Member.class, forVariable(variable));
     }
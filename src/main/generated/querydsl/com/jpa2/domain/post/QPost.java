@@ -24,6 +24,8 @@ public class QPost extends EntityPathBase<Post> {
 
     public final com.jpa2.domain.QBaseTimeEntity _super = new com.jpa2.domain.QBaseTimeEntity(this);
 
+    public final NumberPath<Long> commentCount = createNumber("commentCount", Long.class);
+
     public final ListPath<com.jpa2.domain.comment.Comment, com.jpa2.domain.comment.QComment> commentList = this.<com.jpa2.domain.comment.Comment, com.jpa2.domain.comment.QComment>createList("commentList", com.jpa2.domain.comment.Comment.class, com.jpa2.domain.comment.QComment.class, PathInits.DIRECT2);
 
     public final StringPath content = createString("content");
@@ -40,6 +42,8 @@ public class QPost extends EntityPathBase<Post> {
 
     public final StringPath title = createString("title");
 
+    public final NumberPath<Long> viewCount = createNumber("viewCount", Long.class);
+
     public final com.jpa2.domain.member.QMember writer;
 
     public QPost(String variable) {
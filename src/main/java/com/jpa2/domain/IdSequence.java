@@ -0,0 +1,25 @@
+package com.jpa2.domain;
+
+/**
+ * 엔티티 id 생성용 시퀀스 테이블 설정 (@TableGenerator에서 사용)
+ * 
+ * IDENTITY는 INSERT를 실행해야 id를 알 수 있으므로 Hibernate가 INSERT를 한 건씩 바로 실행하고 JDBC 배치를 쓰지 못함
+ * 시퀀스 테이블에서 ALLOCATION_SIZE 만큼 id를 미리 받아두면(pooled)
+ * id 100개마다 시퀀스 테이블 UPDATE 1번, INSERT는 flush 시점에 모아서 배치로 실행됨
+ */
+public final class IdSequence {
+
+	public static final String TABLE = "ID_SEQUENCE";
+	public static final String PK_COLUMN = "sequence_name"; // 엔티티별 구분 (member, post, comment, ...)
+	public static final String VALUE_COLUMN = "next_val";
+	public static final int ALLOCATION_SIZE = 100;
+	
+	public static final String MEMBER = "member";
+	public static final String POST = "post";
+	public static final String COMMENT = "comment";
+	public static final String REFRESH_TOKEN = "refresh_token";
+	public static final String REVOKED_ACCESS_TOKEN = "revoked_access_token";
+	
+	private IdSequence() {
+	}
+}
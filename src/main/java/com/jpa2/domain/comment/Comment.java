@@ -2,9 +2,12 @@ package com.jpa2.domain.comment;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
 
 import com.jpa2.domain.BaseTimeEntity;
+import com.jpa2.domain.IdSequence;
 import com.jpa2.domain.member.Member;
 import com.jpa2.domain.post.Post;
 
@@ -12,25 +15,34 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "COMMENT")
+@Table(name = "COMMENT", indexes = {
+		@Index(name = "idx_comment_post_parent_id", columnList = "post_id, parent_id, comment_id"), // 게시글의 댓글 커서 페이징
+		@Index(name = "idx_comment_parent_id", columnList = "parent_id, comment_id") // 댓글의 대댓글 커서 페이징
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseTimeEntity {
 	
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+	@TableGenerator(name = "comment_id_generator", table = IdSequence.TABLE,
+			pkColumnName = IdSequence.PK_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+			pkColumnValue = IdSequence.COMMENT, allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "comment_id")
     private Long id;
 
@@ -53,6 +65,14 @@ public class Comment extends BaseTimeEntity {
     private String content;
 
     private boolean isRemoved= false;
+    
+    /**
+     * 삭제되지 않은 대댓글 수 (비정규화, 댓글에만 사용)
+     * Post.commentCount와 마찬가지로 상대값 UPDATE로만 변경
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long reCommentCount;
 
     
     //== 부모 댓글을 삭제해도 자식 댓글은 남아있음 ==//
@@ -63,7 +83,9 @@ public class Comment extends BaseTimeEntity {
     //== 연관관계 편의 메서드 ==//
     public void confirmWriter(Member writer) {
         this.writer = writer;
-        writer.addComment(this);
+        if (Hibernate.isInitialized(writer)) { // 프록시(getReference)인 경우 컬렉션을 위해 회원을 조회하지 않음
+            writer.addComment(this);
+        }
     }
 
     public void confirmPost(Post post) {
@@ -99,36 +121,4 @@ public class Comment extends BaseTimeEntity {
         this.content = content;
         this.isRemoved = false;
     }
-
-	//== 비즈니스 로직 ==//
-	public List<Comment> findRemovableList() { // 댓글 또는 대댓글에서 삭제 가능한 댓글 리스트를 찾는 메서드
-	    List<Comment> result = new ArrayList<>();
-	    Optional.ofNullable(this.parent).ifPresentOrElse(
-	
-				parentComment ->{ // 대댓글인 경우 (부모가 존재하는 경우)
-					if(parentComment.isRemoved() && parentComment.isAllChildRemoved()){ // 모든 자식 댓글이 삭제된 경우
-						result.addAll(parentComment.getChildList()); // 모든 자식 댓글 추가
-						result.add(parentComment); // 부모 댓글 추가
-					}
-				},
-	
-				() -> { //댓글인 경우 (부모 댓글이 없는 경우)
-					if (isAllChildRemoved()) {
-						result.add(this); // 현재 댓글 추가
-						result.addAll(this.getChildList()); // 현재 자식 댓글 추가
-					}
-				}
-	    );
-	    return result; // 삭제 가능한 댓글 리스트 반환
-	}
-
-
-	// 모든 자식 댓글이 삭제되었는지 판단
-	private boolean isAllChildRemoved() {
-		return getChildList().stream()
-				.map(Comment::isRemoved) // 지워졌는지 여부로 바꾼다
-				.filter(isRemove -> !isRemove) // 지워졌으면 true, 안지워졌으면 false이다. 따라서 filter에 걸러지는 것은 false인 녀석들이고, 있다면 false를 없다면 orElse를 통해 true를 반환한다.
-				.findAny() // 지워지지 않은게 하나라도 있다면 false를 반환
-				.orElse(true); // 모두 지워졌다면 true를 반환
-	}
 }
\ No newline at end of file
@@ -1,15 +1,20 @@
 package com.jpa2.domain.comment.controller;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.jpa2.domain.comment.dto.CommentPagingDto;
 import com.jpa2.domain.comment.dto.CommentSaveDto;
 import com.jpa2.domain.comment.dto.CommentUpdateDto;
+import com.jpa2.domain.comment.dto.ReCommentPagingDto;
 import com.jpa2.domain.comment.service.CommentService;
 
 import lombok.RequiredArgsConstructor;
@@ -46,4 +51,29 @@ public class CommentController {
 	public void delete(@PathVariable(name = "commentId") Long commentId) {
 		commentService.remove(commentId);
 	}
+	
+	/**
+	 * 게시글 댓글 더보기
+	 * GET /post/{postId}/comment?cursor={이전 응답의 nextCursor}&size=20
+	 * cursor가 없으면 첫 페이지
+	 */
+	@GetMapping("/post/{postId}/comment")
+	public ResponseEntity<CommentPagingDto> commentList(@PathVariable(name = "postId") Long postId,
+														@RequestParam(name = "cursor", required = false) Long cursor,
+														@RequestParam(name = "size", defaultValue = "20") int size) {
+		
+		return ResponseEntity.ok(commentService.getCommentList(postId, cursor, size));
+	}
+	
+	/**
+	 * 대댓글 더보기
+	 * GET /comment/{commentId}/reComment?cursor={이전 응답의 nextCursor 또는 댓글의 reCommentNextCursor}&size=20
+	 */
+	@GetMapping("/comment/{commentId}/reComment")
+	public ResponseEntity<ReCommentPagingDto> reCommentList(@PathVariable(name = "commentId") Long commentId,
+															@RequestParam(name = "cursor", required = false) Long cursor,
+															@RequestParam(name = "size", defaultValue = "20") int size) {
+		
+		return ResponseEntity.ok(commentService.getReCommentList(commentId, cursor, size));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.jpa2.domain.comment.count;
+
+import static com.jpa2.domain.comment.QComment.comment;
+import static com.jpa2.domain.post.QPost.post;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jpa2.domain.comment.QComment;
+import com.jpa2.domain.post.cache.PostInfoCache;
+import com.jpa2.domain.post.cache.PostListCache;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비정규화된 댓글 수(Post.commentCount, Comment.reCommentCount)를 실제 댓글 행과 맞춤
+ * 
+ * 평소에는 CommentService가 상대값 UPDATE로 관리하지만,
+ * 컬럼 추가 직후(기존 행은 0)나 서비스를 거치지 않은 변경(직접 INSERT, 게시글 삭제 실패 등)으로 어긋날 수 있음
+ * 
+ * id 기준 keyset으로 CHUNK_SIZE 만큼씩 나눠, 청크마다 별도의 짧은 트랜잭션에서
+ * UPDATE ... SET n = (SELECT COUNT(*) ...) 를 한 번 실행 -> 락을 오래 잡지 않고 서비스 중에도 실행 가능
+ * (같은 테이블을 서브쿼리로 참조하는 UPDATE는 MariaDB 10.3.2 이상에서 지원)
+ * 
+ * 매일 새벽(reconcile-cron)에 실행, 시작 시 실행은 comment.count.reconcile-on-startup=true 일 때만 (백그라운드)
+ * 끝나면 댓글 수가 담긴 목록/상세 캐시를 비움
+ */
+@Slf4j
+@Component
+public class CommentCountReconciler {
+
+	private static final QComment child = new QComment("child");
+	
+	private final JPAQueryFactory query;
+	private final TransactionTemplate transactionTemplate;
+	private final PostListCache postListCache;
+	private final PostInfoCache postInfoCache;
+	private final int chunkSize;
+	private final boolean reconcileOnStartup;
+	
+	public CommentCountReconciler(EntityManager em, PlatformTransactionManager transactionManager,
+								  PostListCache postListCache, PostInfoCache postInfoCache,
+								  @Value("${comment.count.reconcile-chunk-size:1000}") int chunkSize,
+								  @Value("${comment.count.reconcile-on-startup:false}") boolean reconcileOnStartup) {
+		this.query = new JPAQueryFactory(em);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.postListCache = postListCache;
+		this.postInfoCache = postInfoCache;
+		this.chunkSize = chunkSize;
+		this.reconcileOnStartup = reconcileOnStartup;
+	}
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void reconcileOnStartup() {
+		if (!reconcileOnStartup) return;
+		
+		Thread.ofVirtual().name("comment-count-reconciler").start(this::reconcile); // 시작을 지연시키지 않도록
+	}
+	
+	@Scheduled(cron = "${comment.count.reconcile-cron:0 0 4 * * *}")
+	public void reconcile() {
+		long start = System.currentTimeMillis();
+		
+		int postChunks = reconcileInChunks(this::nextPostChunkEnd, this::reconcilePostCommentCount);
+		int commentChunks = reconcileInChunks(this::nextCommentChunkEnd, this::reconcileReCommentCount);
+		
+		postListCache.invalidateAll(); // 캐시된 목록/상세의 댓글 수가 바뀌었을 수 있음
+		postInfoCache.invalidateAll();
+		
+		log.info("댓글 수 재계산 시간: {}ms (게시글 청크 {}개, 댓글 청크 {}개)", System.currentTimeMillis() - start, postChunks, commentChunks);
+	}
+	
+	/**
+	 * (lastId, chunkEnd] 범위를 차례로 재계산
+	 * @param nextChunkEnd lastId 이후 chunkSize 번째 id (더 없으면 null)
+	 */
+	private int reconcileInChunks(Function<Long, Long> nextChunkEnd, ChunkReconciler chunkReconciler) {
+		int chunks = 0;
+		Long lastId = 0L;
+		
+		while (true) {
+			Long chunkEnd = nextChunkEnd.apply(lastId);
+			if (chunkEnd == null) break;
+			
+			Long from = lastId;
+			transactionTemplate.executeWithoutResult(status -> chunkReconciler.reconcile(from, chunkEnd));
+			
+			chunks++;
+			lastId = chunkEnd;
+		}
+		return chunks;
+	}
+	
+	private Long nextPostChunkEnd(Long lastId) {
+		List<Long> ids = query.select(post.id)
+				.from(post)
+				.where(post.id.gt(lastId))
+				.orderBy(post.id.asc())
+				.limit(chunkSize)
+				.fetch();
+		
+		return ids.isEmpty() ? null : ids.get(ids.size() - 1);
+	}
+	
+	private Long nextCommentChunkEnd(Long lastId) {
+		List<Long> ids = query.select(comment.id)
+				.from(comment)
+				.where(comment.id.gt(lastId))
+				.orderBy(comment.id.asc())
+				.limit(chunkSize)
+				.fetch();
+		
+		return ids.isEmpty() ? null : ids.get(ids.size() - 1);
+	}
+	
+	private void reconcilePostCommentCount(Long from, Long to) {
+		query.update(post)
+				.set(post.commentCount, JPAExpressions.select(comment.count())
+						.from(comment)
+						.where(
+								comment.post.id.eq(post.id),
+								comment.isRemoved.isFalse()
+						))
+				.where(post.id.gt(from), post.id.loe(to))
+				.execute();
+	}
+	
+	private void reconcileReCommentCount(Long from, Long to) {
+		query.update(comment)
+				.set(comment.reCommentCount, JPAExpressions.select(child.count())
+						.from(child)
+						.where(
+								child.parent.id.eq(comment.id),
+								child.isRemoved.isFalse()
+						))
+				.where(
+						comment.id.gt(from),
+						comment.id.loe(to),
+						comment.parent.isNull() // 대댓글의 대댓글은 없으므로 댓글만 재계산
+				)
+				.execute();
+	}
+	
+	@FunctionalInterface
+	private interface ChunkReconciler {
+		void reconcile(Long from, Long to);
+	}
+}
@@ -1,6 +1,9 @@
 package com.jpa2.domain.comment.dto;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.jpa2.domain.comment.Comment;
 import com.jpa2.domain.member.dto.MemberInfoDto;
@@ -23,6 +26,9 @@ public class CommentInfoDto {
     private MemberInfoDto writerDto;// 댓글 작성자에 대한 정보
 
     private List<ReCommentInfoDto> reCommentListDtoList;// 대댓글에 대한 정보들
+    
+    private long reCommentCount; // 삭제되지 않은 대댓글 수
+    private Long reCommentNextCursor; // 나머지 대댓글을 조회할 커서 (대댓글을 모두 포함했다면 null)
 
 
 
@@ -51,6 +57,66 @@ public class CommentInfoDto {
         this.writerDto = new MemberInfoDto(comment.getWriter());
 
         this.reCommentListDtoList = reCommentList.stream().map(ReCommentInfoDto::new).toList();
+        this.reCommentCount = comment.getReCommentCount();
 
     }
+    
+    /**
+     * 댓글 Projection으로 생성 (대댓글은 assembleTree에서 추가)
+     */
+    public CommentInfoDto(CommentQueryDto comment) {
+        this.postId = comment.postId();
+        this.commentId = comment.commentId();
+        this.content = comment.isRemoved() ? DEFAULT_DELETE_MESSAGE : comment.content();
+        this.isRemoved = comment.isRemoved();
+        this.writerDto = comment.writerUsername() != null
+                ? new MemberInfoDto(comment.writerName(), comment.writerNickName(), comment.writerUsername(), comment.writerAge())
+                : null;
+        this.reCommentListDtoList = new ArrayList<>();
+        this.reCommentCount = comment.reCommentCount();
+    }
+    
+    /**
+     * 대댓글을 앞에서부터 size개만 남기고, 잘려나간 대댓글이 있으면 나머지를 조회할 커서를 지정
+     * (size + 1개를 조회해서 넘기면 추가 COUNT 없이 더 있는지 알 수 있음)
+     */
+    public void limitReCommentList(int size) {
+        if (reCommentListDtoList.size() <= size) {
+            this.reCommentNextCursor = null;
+            return;
+        }
+        this.reCommentListDtoList = new ArrayList<>(reCommentListDtoList.subList(0, size));
+        this.reCommentNextCursor = size > 0 ? reCommentListDtoList.get(size - 1).getReCommentId() : null;
+    }
+    
+    /**
+     * comment_id 순서로 정렬된 댓글+대댓글 목록을 댓글 트리로 변환
+     * 
+     * 1. parentId가 없는 댓글을 순서대로 결과에 추가하고 id로 찾을 수 있도록 Map에 보관
+     * 2. 대댓글을 순서대로 부모 댓글에 추가
+     * -> 댓글 수에 비례하는 O(n), 댓글과 대댓글 모두 작성순(id 순)으로 정렬되고
+     *    대댓글이 없는 댓글도 결과에 포함됨
+     */
+    public static List<CommentInfoDto> assembleTree(List<CommentQueryDto> comments) {
+        List<CommentInfoDto> result = new ArrayList<>();
+        Map<Long, CommentInfoDto> commentMap = new HashMap<>();
+        
+        for (CommentQueryDto comment : comments) {
+            if (comment.parentId() == null) {
+                CommentInfoDto commentInfoDto = new CommentInfoDto(comment);
+                result.add(commentInfoDto);
+                commentMap.put(comment.commentId(), commentInfoDto);
+            }
+        }
+        
+        for (CommentQueryDto comment : comments) {
+            if (comment.parentId() != null) {
+                CommentInfoDto parent = commentMap.get(comment.parentId());
+                if (parent != null) {
+                    parent.getReCommentListDtoList().add(new ReCommentInfoDto(comment));
+                }
+            }
+        }
+        return result;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.jpa2.domain.comment.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 댓글 커서 페이징 결과
+ * 각 댓글에는 대댓글 수와 앞쪽 일부 대댓글만 포함됨 (나머지는 ReCommentPagingDto로 조회)
+ */
+@Data
+@NoArgsConstructor
+public class CommentPagingDto {
+
+	private Long nextCursor; // 다음 댓글을 조회할 커서 = 마지막 댓글의 ID (없으면 null)
+	private boolean hasNext; // 다음 댓글이 존재하는지
+	private int currentPageElementCount; // 현재 페이지에 존재하는 댓글 수
+	
+	private List<CommentInfoDto> commentInfoDtoList = new ArrayList<>();
+	
+	/**
+	 * @param commentInfoDtoList comment_id 오름차순(작성순)으로 정렬된 댓글
+	 */
+	public CommentPagingDto(List<CommentInfoDto> commentInfoDtoList, boolean hasNext) {
+		this.hasNext = hasNext;
+		this.currentPageElementCount = commentInfoDtoList.size();
+		this.commentInfoDtoList = commentInfoDtoList;
+		
+		if (hasNext && !commentInfoDtoList.isEmpty()) {
+			this.nextCursor = commentInfoDtoList.get(commentInfoDtoList.size() - 1).getCommentId();
+		}
+	}
+}
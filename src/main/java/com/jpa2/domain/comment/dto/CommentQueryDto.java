@@ -0,0 +1,17 @@
+package com.jpa2.domain.comment.dto;
+
+/**
+ * 게시글 상세 조회 시 댓글 + 작성자 정보를 한 번에 가져오기 위한 Projection
+ * 엔티티를 조회하지 않으므로 parent, writer, post 지연 로딩이 발생하지 않음
+ */
+public record CommentQueryDto(Long commentId,
+							  Long postId,
+							  Long parentId, // 댓글이면 null, 대댓글이면 부모 댓글의 id
+							  String content,
+							  boolean isRemoved,
+							  long reCommentCount, // 대댓글이면 0
+							  String writerName,
+							  String writerNickName,
+							  String writerUsername,
+							  Integer writerAge) {
+}
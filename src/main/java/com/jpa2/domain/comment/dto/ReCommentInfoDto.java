@@ -34,4 +34,15 @@ public class ReCommentInfoDto {
         this.isRemoved = reComment.isRemoved();
         this.writerDto = new MemberInfoDto(reComment.getWriter());
     }
+    
+    public ReCommentInfoDto(CommentQueryDto reComment) {
+        this.postId = reComment.postId();
+        this.parentId = reComment.parentId();
+        this.reCommentId = reComment.commentId();
+        this.content = reComment.isRemoved() ? DEFAULT_DELETE_MESSAGE : reComment.content();
+        this.isRemoved = reComment.isRemoved();
+        this.writerDto = reComment.writerUsername() != null
+                ? new MemberInfoDto(reComment.writerName(), reComment.writerNickName(), reComment.writerUsername(), reComment.writerAge())
+                : null;
+    }
 }
\ No newline at end of file
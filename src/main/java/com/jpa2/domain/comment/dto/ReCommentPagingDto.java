@@ -0,0 +1,34 @@
+package com.jpa2.domain.comment.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 댓글 하나의 대댓글 커서 페이징 결과 (대댓글 더보기)
+ */
+@Data
+@NoArgsConstructor
+public class ReCommentPagingDto {
+
+	private Long nextCursor; // 다음 대댓글을 조회할 커서 = 마지막 대댓글의 ID (없으면 null)
+	private boolean hasNext; // 다음 대댓글이 존재하는지
+	private int currentPageElementCount; // 현재 페이지에 존재하는 대댓글 수
+	
+	private List<ReCommentInfoDto> reCommentInfoDtoList = new ArrayList<>();
+	
+	/**
+	 * @param reCommentInfoDtoList comment_id 오름차순(작성순)으로 정렬된 대댓글
+	 */
+	public ReCommentPagingDto(List<ReCommentInfoDto> reCommentInfoDtoList, boolean hasNext) {
+		this.hasNext = hasNext;
+		this.currentPageElementCount = reCommentInfoDtoList.size();
+		this.reCommentInfoDtoList = reCommentInfoDtoList;
+		
+		if (hasNext && !reCommentInfoDtoList.isEmpty()) {
+			this.nextCursor = reCommentInfoDtoList.get(reCommentInfoDtoList.size() - 1).getReCommentId();
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.jpa2.domain.comment.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.jpa2.domain.comment.dto.CommentQueryDto;
+
+public interface CustomCommentRepository {
+
+	/**
+	 * 게시글의 댓글(부모가 없는 댓글)을 cursor(마지막으로 본 comment_id) 이후부터 limit 개 조회
+	 * comment_id 오름차순(작성순)으로 정렬됨
+	 */
+	List<CommentQueryDto> findCommentsByPostId(Long postId, Long cursor, int limit);
+	
+	/**
+	 * 댓글 하나의 대댓글을 cursor(마지막으로 본 comment_id) 이후부터 limit 개 조회
+	 */
+	List<CommentQueryDto> findReCommentsByParentId(Long parentId, Long cursor, int limit);
+	
+	/**
+	 * 여러 댓글의 대댓글을 댓글마다 앞에서부터 limitPerParent 개씩 쿼리 1번으로 조회
+	 * (parent_id, comment_id) 순서로 정렬됨
+	 */
+	List<CommentQueryDto> findFirstReCommentsByParentIds(Collection<Long> parentIds, int limitPerParent);
+	
+	/**
+	 * 삭제되지 않은 댓글인 경우에만 삭제 표시
+	 * @return 이번 호출로 삭제 표시되었는지 (동시에 삭제 요청이 와도 한 번만 true)
+	 */
+	boolean markRemoved(Long commentId);
+	
+	/**
+	 * 대댓글 수를 delta 만큼 변경 (UPDATE ... SET re_comment_count = re_comment_count + delta)
+	 */
+	void addReCommentCount(Long commentId, int delta);
+	
+	/**
+	 * 댓글이 삭제 표시되었고, 삭제 표시되지 않은 대댓글이 하나도 없는지 (EXISTS 쿼리 1번)
+	 * -> 댓글과 대댓글을 실제로 삭제해도 되는지
+	 */
+	boolean isRemovableWithReComments(Long commentId);
+	
+	/**
+	 * 삭제 표시된 댓글과 대댓글을 벌크 DELETE로 삭제 (대댓글 수와 상관없이 쿼리 2번)
+	 * 확인 이후 삭제되지 않은 대댓글이 새로 달렸다면 댓글은 삭제하지 않음
+	 * @return 삭제된 행 수
+	 */
+	long deleteWithReComments(Long commentId);
+}
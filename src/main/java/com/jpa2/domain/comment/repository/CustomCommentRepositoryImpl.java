@@ -0,0 +1,191 @@
+package com.jpa2.domain.comment.repository;
+
+import static com.jpa2.domain.comment.QComment.comment;
+import static com.jpa2.domain.member.QMember.member;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.jpa2.domain.comment.QComment;
+import com.jpa2.domain.comment.dto.CommentQueryDto;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+
+@Repository
+public class CustomCommentRepositoryImpl implements CustomCommentRepository {
+
+	/**
+	 * 댓글마다 앞에서부터 N개의 대댓글을 구하기 위해 윈도우 함수(ROW_NUMBER)를 사용하는 네이티브 쿼리
+	 * JPQL/QueryDSL로는 "그룹별 상위 N개"를 쿼리 1번으로 표현할 수 없음
+	 */
+	private static final String FIRST_RECOMMENTS_SQL = """
+			SELECT t.comment_id, t.post_id, t.parent_id, t.content, t.is_removed, t.re_comment_count,
+			       m.name, m.nick_name, m.username, m.age
+			FROM (SELECT c.comment_id, c.post_id, c.parent_id, c.content, c.is_removed, c.re_comment_count, c.writer_id,
+			             ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.comment_id) AS rn
+			      FROM comment c
+			      WHERE c.parent_id IN (:parentIds)) t
+			LEFT JOIN member m ON m.member_id = t.writer_id
+			WHERE t.rn <= :limitPerParent
+			ORDER BY t.parent_id, t.comment_id
+			""";
+	
+	private static final QComment reComment = new QComment("reComment"); // 서브쿼리용 별칭
+	
+	private final EntityManager em;
+	private final JPAQueryFactory query;
+	
+	public CustomCommentRepositoryImpl(EntityManager em) {
+		this.em = em;
+		query = new JPAQueryFactory(em);
+	}
+	
+	@Override
+	public List<CommentQueryDto> findCommentsByPostId(Long postId, Long cursor, int limit) {
+		return query.select(commentQueryDto())
+				.from(comment)
+				.leftJoin(comment.writer, member) // 작성자가 없는 댓글도 조회
+				.where(
+						comment.post.id.eq(postId),
+						comment.parent.isNull(),
+						afterCursor(cursor)
+				)
+				.orderBy(comment.id.asc())
+				.limit(limit)
+				.fetch();
+	}
+	
+	@Override
+	public List<CommentQueryDto> findReCommentsByParentId(Long parentId, Long cursor, int limit) {
+		return query.select(commentQueryDto())
+				.from(comment)
+				.leftJoin(comment.writer, member)
+				.where(
+						comment.parent.id.eq(parentId),
+						afterCursor(cursor)
+				)
+				.orderBy(comment.id.asc())
+				.limit(limit)
+				.fetch();
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<CommentQueryDto> findFirstReCommentsByParentIds(Collection<Long> parentIds, int limitPerParent) {
+		if (parentIds.isEmpty()) return List.of();
+		
+		List<Object[]> rows = em.createNativeQuery(FIRST_RECOMMENTS_SQL)
+				.setParameter("parentIds", parentIds)
+				.setParameter("limitPerParent", limitPerParent)
+				.getResultList();
+		
+		return rows.stream()
+				.map(row -> new CommentQueryDto(
+						toLong(row[0]),
+						toLong(row[1]),
+						toLong(row[2]),
+						(String) row[3],
+						toBoolean(row[4]),
+						((Number) row[5]).longValue(),
+						(String) row[6],
+						(String) row[7],
+						(String) row[8],
+						row[9] != null ? ((Number) row[9]).intValue() : null))
+				.toList();
+	}
+	
+	@Override
+	public boolean markRemoved(Long commentId) {
+		return query.update(comment)
+				.set(comment.isRemoved, true)
+				.where(
+						comment.id.eq(commentId),
+						comment.isRemoved.isFalse()
+				)
+				.execute() > 0;
+	}
+	
+	@Override
+	public void addReCommentCount(Long commentId, int delta) {
+		query.update(comment)
+				.set(comment.reCommentCount, comment.reCommentCount.add(delta))
+				.where(comment.id.eq(commentId))
+				.execute();
+	}
+	
+	@Override
+	public boolean isRemovableWithReComments(Long commentId) {
+		return query.selectOne()
+				.from(comment)
+				.where(
+						comment.id.eq(commentId),
+						comment.isRemoved.isTrue(),
+						notRemovedReCommentExists(commentId).not()
+				)
+				.fetchFirst() != null;
+	}
+	
+	@Override
+	public long deleteWithReComments(Long commentId) {
+		long deletedReComments = query.delete(comment)
+				.where(
+						comment.parent.id.eq(commentId),
+						comment.isRemoved.isTrue()
+				)
+				.execute();
+		
+		long deletedComment = query.delete(comment)
+				.where(
+						comment.id.eq(commentId),
+						comment.isRemoved.isTrue(),
+						notRemovedReCommentExists(commentId).not() // 같은 테이블을 참조하는 서브쿼리 (MariaDB 10.3.1 이상)
+				)
+				.execute();
+		
+		return deletedReComments + deletedComment;
+	}
+	
+	private BooleanExpression notRemovedReCommentExists(Long commentId) {
+		return JPAExpressions.selectOne()
+				.from(reComment)
+				.where(
+						reComment.parent.id.eq(commentId),
+						reComment.isRemoved.isFalse()
+				)
+				.exists();
+	}
+	
+	private ConstructorExpression<CommentQueryDto> commentQueryDto() {
+		return Projections.constructor(CommentQueryDto.class,
+				comment.id,
+				comment.post.id,
+				comment.parent.id, // FK 컬럼을 그대로 사용하므로 부모 댓글과 조인하지 않음
+				comment.content,
+				comment.isRemoved,
+				comment.reCommentCount,
+				member.name,
+				member.nickName,
+				member.username,
+				member.age);
+	}
+	
+	private BooleanExpression afterCursor(Long cursor) {
+		return cursor != null ? comment.id.gt(cursor) : null; // 첫 페이지
+	}
+	
+	private static Long toLong(Object value) {
+		return value != null ? ((Number) value).longValue() : null;
+	}
+	
+	private static boolean toBoolean(Object value) { // 드라이버에 따라 BIT(1)이 Boolean 또는 숫자로 넘어옴
+		if (value instanceof Boolean bool) return bool;
+		return value != null && ((Number) value).intValue() != 0;
+	}
+}
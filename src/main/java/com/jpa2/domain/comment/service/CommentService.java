@@ -1,16 +1,30 @@
 package com.jpa2.domain.comment.service;
 
+import java.util.List;
+
+import com.jpa2.domain.comment.dto.CommentPagingDto;
 import com.jpa2.domain.comment.dto.CommentSaveDto;
 import com.jpa2.domain.comment.dto.CommentUpdateDto;
+import com.jpa2.domain.comment.dto.ReCommentPagingDto;
 import com.jpa2.domain.comment.exception.CommentException;
 
 public interface CommentService {
 
 	void save(Long postId, CommentSaveDto commentSaveDto);
 	
+	/**
+	 * 게시글에 댓글 여러 개를 한 번에 등록 (가져오기용)
+	 * @return 저장된 댓글 id (입력 순서와 같음)
+	 */
+	List<Long> saveAll(Long postId, List<CommentSaveDto> commentSaveDtoList);
+	
 	void saveReComment(Long postId, Long parentId, CommentSaveDto commentSaveDto);
 	
 	void update(Long id, CommentUpdateDto commentUpdateDto);
 	
 	void remove(Long id) throws CommentException;
+	
+	CommentPagingDto getCommentList(Long postId, Long cursor, int size);
+	
+	ReCommentPagingDto getReCommentList(Long commentId, Long cursor, int size);
 }
\ No newline at end of file
@@ -1,24 +1,32 @@
 package com.jpa2.domain.comment.service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jpa2.domain.comment.Comment;
+import com.jpa2.domain.comment.dto.CommentInfoDto;
+import com.jpa2.domain.comment.dto.CommentPagingDto;
+import com.jpa2.domain.comment.dto.CommentQueryDto;
 import com.jpa2.domain.comment.dto.CommentSaveDto;
 import com.jpa2.domain.comment.dto.CommentUpdateDto;
+import com.jpa2.domain.comment.dto.ReCommentInfoDto;
+import com.jpa2.domain.comment.dto.ReCommentPagingDto;
 import com.jpa2.domain.comment.exception.CommentException;
 import com.jpa2.domain.comment.exception.CommentExceptionType;
 import com.jpa2.domain.comment.repository.CommentRepository;
-import com.jpa2.domain.member.exception.MemberException;
-import com.jpa2.domain.member.exception.MemberExceptionType;
-import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.post.Post;
+import com.jpa2.domain.post.cache.PostInfoCache;
 import com.jpa2.domain.post.exception.PostException;
 import com.jpa2.domain.post.exception.PostExceptionType;
 import com.jpa2.domain.post.repository.PostRepository;
 import com.jpa2.global.util.security.SecurityUtil;
+import com.jpa2.global.util.transaction.TransactionUtil;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -27,53 +35,174 @@ import lombok.RequiredArgsConstructor;
 public class CommentServiceImpl implements CommentService {
 
 	private final CommentRepository commentRepository;
-	private final MemberRepository memberRepository;
 	private final PostRepository postRepository;
-
+	private final PostInfoCache postInfoCache;
+	private final EntityManager em;
+	
+	private static final int MAX_PAGE_SIZE = 100; // 한 번에 조회할 수 있는 최대 댓글/대댓글 수
+	private static final int RECOMMENT_PREVIEW_SIZE = 3; // 댓글 목록에 함께 포함할 대댓글 수
+	private static final int BULK_FLUSH_SIZE = 1000; // 여러 개를 등록할 때 flush + clear 하는 단위
 	
 	@Override
 	public void save(Long postId, CommentSaveDto commentSaveDto) {
 		Comment comment = commentSaveDto.toEntity();
 		
-		comment.confirmWriter(memberRepository.findByUsername(SecurityUtil.getLoginUsername()).orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER)));
+		comment.confirmWriter(em.getReference(Member.class, SecurityUtil.getLoginMemberId()));
 		comment.confirmPost(postRepository.findById(postId).orElseThrow(() -> new PostException(PostExceptionType.POST_NOT_FOUND)));
 		
 		commentRepository.save(comment);
+		postRepository.addCommentCount(postId, 1);
+		
+		invalidatePostInfo(postId);
+	}
+	
+	/**
+	 * PostServiceImpl.saveAll과 같은 방식 (JDBC 배치 + BULK_FLUSH_SIZE 개마다 flush + clear)
+	 * 작성자와 게시글은 프록시(getReference)로만 연결해서 댓글마다 조회하거나 컬렉션을 로딩하지 않음
+	 * 게시글의 댓글 수는 마지막에 한 번만 증가
+	 */
+	@Override
+	public List<Long> saveAll(Long postId, List<CommentSaveDto> commentSaveDtoList) {
+		Long writerId = SecurityUtil.getLoginMemberId();
+		
+		if (!postRepository.existsById(postId)) {
+			throw new PostException(PostExceptionType.POST_NOT_FOUND);
+		}
+		
+		List<Long> ids = new ArrayList<>(commentSaveDtoList.size());
+		
+		for (CommentSaveDto commentSaveDto : commentSaveDtoList) {
+			Comment comment = Comment.builder()
+					.writer(em.getReference(Member.class, writerId))
+					.post(em.getReference(Post.class, postId))
+					.content(commentSaveDto.content())
+					.build();
+			commentRepository.save(comment);
+			ids.add(comment.getId());
+			
+			if (ids.size() % BULK_FLUSH_SIZE == 0) {
+				em.flush();
+				em.clear();
+			}
+		}
+		
+		postRepository.addCommentCount(postId, ids.size());
+		
+		invalidatePostInfo(postId);
+		return ids;
 	}
 	
 	@Override
 	public void saveReComment(Long postId, Long parentId, CommentSaveDto commentSaveDto) {
 		Comment comment = commentSaveDto.toEntity();
 		
-		comment.confirmWriter(memberRepository.findByUsername(SecurityUtil.getLoginUsername()).orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER)));
+		comment.confirmWriter(em.getReference(Member.class, SecurityUtil.getLoginMemberId()));
 		comment.confirmPost(postRepository.findById(postId).orElseThrow(() -> new PostException(PostExceptionType.POST_NOT_FOUND)));
 		comment.confirmParent(commentRepository.findById(parentId).orElseThrow(() -> new CommentException(CommentExceptionType.NOT_FOUND_COMMENT)));
 		
 		commentRepository.save(comment);
+		postRepository.addCommentCount(postId, 1);
+		commentRepository.addReCommentCount(parentId, 1);
+		
+		invalidatePostInfo(postId);
 	}
 	
 	@Override
 	public void update(Long id, CommentUpdateDto commentUpdateDto) {
 		Comment comment = commentRepository.findById(id).orElseThrow(() -> new CommentException(CommentExceptionType.NOT_FOUND_COMMENT));
 		
-		if (!comment.getWriter().getUsername().equals(SecurityUtil.getLoginUsername())) {
+		if (!comment.getWriter().getId().equals(SecurityUtil.getLoginMemberId())) {
 			throw new CommentException(CommentExceptionType.NOT_AUTHORITY_UPDATE_COMMENT);
 		}
 		commentUpdateDto.content().ifPresent(comment::updateContent);
+		
+		invalidatePostInfo(comment.getPost().getId());
 	}
 
 	@Override
 	public void remove(Long id) throws CommentException {
 		Comment comment = commentRepository.findById(id).orElseThrow(() -> new CommentException(CommentExceptionType.NOT_FOUND_COMMENT));
 		
-		if (!comment.getWriter().getUsername().equals(SecurityUtil.getLoginUsername())) {
+		if (!comment.getWriter().getId().equals(SecurityUtil.getLoginMemberId())) {
 			throw new CommentException(CommentExceptionType.NOT_AUTHORITY_DELETE_COMMENT);
 		}
 		
-		comment.remove();
+		/**
+		 * 이미 삭제된 댓글이 아닌 경우에만 댓글 수 감소
+		 * (같은 댓글에 삭제 요청이 동시에 들어와도 markRemoved는 한 번만 성공하므로 두 번 감소하지 않음)
+		 * 
+		 * 실제 행 삭제는 이미 삭제 표시된 댓글만 대상이므로 댓글 수에 영향 없음
+		 */
+		if (commentRepository.markRemoved(id)) {
+			postRepository.addCommentCount(comment.getPost().getId(), -1);
+			if (comment.getParent() != null) {
+				commentRepository.addReCommentCount(comment.getParent().getId(), -1);
+			}
+		}
+		
+		/**
+		 * 댓글이면 자신을, 대댓글이면 부모 댓글을 기준으로
+		 * 기준 댓글이 삭제 표시되었고 모든 대댓글이 삭제 표시되었다면 기준 댓글과 대댓글을 모두 실제로 삭제
+		 * 
+		 * 대댓글 목록(childList)을 로딩하지 않고 EXISTS 1번 + (삭제 가능한 경우) 벌크 DELETE 2번으로 처리
+		 * (영속성 컨텍스트를 거치지 않으므로 이 트랜잭션에서 삭제된 댓글 엔티티를 다시 사용하지 않음)
+		 */
+		Long rootId = comment.getParent() != null ? comment.getParent().getId() : comment.getId();
 		
-		List<Comment> removableCommentList = comment.findRemovableList();
+		if (commentRepository.isRemovableWithReComments(rootId)) {
+			commentRepository.deleteWithReComments(rootId);
+		}
 		
-		commentRepository.deleteAll(removableCommentList);
+		invalidatePostInfo(comment.getPost().getId());
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public CommentPagingDto getCommentList(Long postId, Long cursor, int size) {
+		/**
+		 * 댓글 size + 1개 조회 -> 쿼리 1번 (1개를 더 조회해서 다음 페이지 존재 여부 확인)
+		 * 댓글마다 앞쪽 대댓글 RECOMMENT_PREVIEW_SIZE + 1개 조회 -> 쿼리 1번
+		 * (대댓글 수는 댓글의 re_comment_count 컬럼을 그대로 사용하므로 COUNT 쿼리 없음)
+		 *
+		 * 전체 댓글/대댓글 수와 상관없이 조회하는 페이지 크기에 비례하는 만큼만 읽음
+		 */
+		size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		
+		List<CommentQueryDto> comments = new ArrayList<>(commentRepository.findCommentsByPostId(postId, cursor, size + 1));
+		
+		boolean hasNext = comments.size() > size;
+		if (hasNext) {
+			comments.remove(size);
+		}
+		
+		List<Long> commentIds = comments.stream().map(CommentQueryDto::commentId).toList();
+		
+		List<CommentQueryDto> commentTree = new ArrayList<>(comments);
+		commentTree.addAll(commentRepository.findFirstReCommentsByParentIds(commentIds, RECOMMENT_PREVIEW_SIZE + 1));
+		
+		List<CommentInfoDto> commentInfoDtoList = CommentInfoDto.assembleTree(commentTree);
+		commentInfoDtoList.forEach(commentInfoDto -> commentInfoDto.limitReCommentList(RECOMMENT_PREVIEW_SIZE));
+		
+		return new CommentPagingDto(commentInfoDtoList, hasNext);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public ReCommentPagingDto getReCommentList(Long commentId, Long cursor, int size) {
+		size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		
+		List<CommentQueryDto> reComments = new ArrayList<>(commentRepository.findReCommentsByParentId(commentId, cursor, size + 1));
+		
+		boolean hasNext = reComments.size() > size;
+		if (hasNext) {
+			reComments.remove(size);
+		}
+		
+		return new ReCommentPagingDto(reComments.stream().map(ReCommentInfoDto::new).toList(), hasNext);
+	}
+	
+	// 댓글이 달린 게시글의 상세 조회 캐시 제거 (커밋 이후)
+	private void invalidatePostInfo(Long postId) {
+		TransactionUtil.afterCommit(() -> postInfoCache.invalidate(postId));
 	}
 }
\ No newline at end of file
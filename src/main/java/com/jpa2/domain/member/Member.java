@@ -1,11 +1,14 @@
 package com.jpa2.domain.member;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.jpa2.domain.BaseTimeEntity;
+import com.jpa2.domain.IdSequence;
 import com.jpa2.domain.comment.Comment;
 import com.jpa2.domain.post.Post;
 
@@ -19,6 +22,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -32,8 +36,13 @@ import lombok.NoArgsConstructor;
 @Builder
 public class Member extends BaseTimeEntity {
 
+	private static final String WITHDRAWN_USERNAME_PREFIX = "withdrawn_";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "member_id_generator")
+	@TableGenerator(name = "member_id_generator", table = IdSequence.TABLE,
+			pkColumnName = IdSequence.PK_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+			pkColumnValue = IdSequence.MEMBER, allocationSize = IdSequence.ALLOCATION_SIZE)
 	@Column(name = "member_id")
 	private Long id; // PK
 	
@@ -55,8 +64,11 @@ public class Member extends BaseTimeEntity {
 	@Column(nullable = false, length = 30)
 	private Role role; // 권한 -> USER, ADMIN
 	
-	@Column(length = 1000)
-	private String refreshToken; // RefreshToken
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private long authVersion; // 인증 정보 버전, 비밀번호/권한 변경, 탈퇴 시 증가 (MemberPrincipalCache)
+	
+	private LocalDateTime withdrawnDate; // 탈퇴 시각, null이 아니면 게시글/댓글 삭제 대기 중 (WithdrawnMemberCleaner)
 	
 	
 	
@@ -87,6 +99,7 @@ public class Member extends BaseTimeEntity {
 	//== 정보 수정 ==//
 	public void updatePassword(PasswordEncoder passwordEncoder, String password) {
 		this.password = passwordEncoder.encode(password);
+		this.authVersion++;
 	}
 	
 	public void updateName(String name) {
@@ -101,12 +114,20 @@ public class Member extends BaseTimeEntity {
 		this.age = age;
 	}
 	
-	public void updateRefreshToken(String refreshToken) {
-		this.refreshToken = refreshToken;
+	
+	//== 회원탈퇴 ==//
+	/**
+	 * 탈퇴 상태로 변경, 게시글/댓글과 회원 행은 WithdrawnMemberCleaner가 나중에 삭제
+	 * 아이디를 바꿔 로그인/토큰 인증이 되지 않게 하고, 같은 아이디로 바로 다시 가입할 수 있게 함
+	 */
+	public void withdraw() {
+		this.withdrawnDate = LocalDateTime.now();
+		this.username = WITHDRAWN_USERNAME_PREFIX + id; // 최대 29자 (length = 30)
+		this.authVersion++;
 	}
 	
-	public void destroyRefreshToken() {
-		this.refreshToken = null;
+	public boolean isWithdrawn() {
+		return withdrawnDate != null;
 	}
 	
 	
@@ -115,6 +136,14 @@ public class Member extends BaseTimeEntity {
 		this.password = passwordEncoder.encode(password);
 	}
 	
+	/**
+	 * 같은 비밀번호를 새 해시 설정으로 다시 해시한 값으로 교체 (로그인 시, LoginService)
+	 * 비밀번호가 바뀐 것이 아니므로 authVersion은 그대로 -> 발급된 토큰 유지
+	 */
+	public void rehashPassword(String encodedPassword) {
+		this.password = encodedPassword;
+	}
+	
 	
 	/**
 	 * 패스워드 일치하는지 확인
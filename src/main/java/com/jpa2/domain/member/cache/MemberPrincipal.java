@@ -0,0 +1,15 @@
+package com.jpa2.domain.member.cache;
+
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.Role;
+
+/**
+ * 인증된 요청마다 필요한 회원 정보 (비밀번호 등 나머지 정보는 보관하지 않음)
+ * @param authVersion 비밀번호/권한 변경, 탈퇴 시 증가 (Member.authVersion)
+ */
+public record MemberPrincipal(Long id, String username, Role role, long authVersion) {
+
+	public static MemberPrincipal of(Member member) {
+		return new MemberPrincipal(member.getId(), member.getUsername(), member.getRole(), member.getAuthVersion());
+	}
+}
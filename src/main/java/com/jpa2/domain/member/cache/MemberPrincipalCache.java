@@ -0,0 +1,74 @@
+package com.jpa2.domain.member.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.global.cache.CacheStatsDto;
+import com.jpa2.global.cache.MonitoredCache;
+
+/**
+ * username -> MemberPrincipal(id, 권한, 인증 정보 버전) 캐시
+ * 
+ * JwtAuthenticationProcessingFilter가 요청마다 회원을 조회하지 않도록 사용하고,
+ * 서비스에서는 SecurityUtil.getLoginMemberId()로 회원 id를 바로 얻음 -> 대부분의 요청에서 회원 조회 쿼리가 없음
+ * 
+ * 비밀번호/권한 변경, 탈퇴 시 커밋 후 invalidate 해야 함 (MemberServiceImpl)
+ * 다른 서버에서 일어난 변경은 TTL 안에서만 반영이 늦어질 수 있음
+ */
+@Component
+public class MemberPrincipalCache implements MonitoredCache {
+
+	private final Cache<String, MemberPrincipal> cache;
+	private final MemberRepository memberRepository;
+	
+	private final AtomicLong generation = new AtomicLong(); // 조회 도중 무효화되었는지 판단 (PostListCache와 동일)
+	
+	public MemberPrincipalCache(MemberRepository memberRepository,
+								@Value("${member.principal-cache.max-size:10000}") long maxSize,
+								@Value("${member.principal-cache.ttl-seconds:600}") long ttlSeconds) {
+		this.memberRepository = memberRepository;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.recordStats()
+				.build();
+	}
+	
+	/**
+	 * @return 회원이 없으면(탈퇴 등) empty, 없는 회원은 캐시하지 않음
+	 */
+	public Optional<MemberPrincipal> get(String username) {
+		MemberPrincipal cached = cache.getIfPresent(username);
+		if (cached != null) return Optional.of(cached);
+		
+		long startGeneration = generation.get();
+		Optional<MemberPrincipal> loaded = memberRepository.findByUsername(username).map(MemberPrincipal::of);
+		
+		if (loaded.isPresent() && generation.get() == startGeneration) {
+			cache.put(username, loaded.get());
+		}
+		return loaded;
+	}
+	
+	public void invalidate(String username) {
+		generation.incrementAndGet();
+		cache.invalidate(username);
+	}
+	
+	@Override
+	public String getCacheName() {
+		return "memberPrincipal";
+	}
+	
+	@Override
+	public CacheStatsDto getStats() {
+		return CacheStatsDto.of(cache.estimatedSize(), cache.stats());
+	}
+}
@@ -64,6 +64,15 @@ public class MemberController {
 		memberService.withdraw(memberWithdrawDto.checkPassword());
 	}
 	
+	/**
+	 * 로그아웃
+	 */
+	@PostMapping("/member/logout")
+	@ResponseStatus(HttpStatus.OK)
+	public void logout() {
+		memberService.logout();
+	}
+	
 	/**
 	 * 회원정보 조회
 	 */
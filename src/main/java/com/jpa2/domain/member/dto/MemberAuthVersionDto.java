@@ -0,0 +1,11 @@
+package com.jpa2.domain.member.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시작 시 MemberVersionRevocations가 읽어오는 회원의 인증 정보 버전 (엔티티 전체를 로딩하지 않음)
+ */
+public record MemberAuthVersionDto(Long id,
+								   long authVersion,
+								   LocalDateTime lastModifiedDate) {
+}
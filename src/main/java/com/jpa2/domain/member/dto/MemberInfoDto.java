@@ -21,6 +21,13 @@ public class MemberInfoDto {
         this.age = null;
     }
 	
+	public MemberInfoDto(String name, String nickName, String username, Integer age) {
+		this.name = name;
+		this.nickName = nickName;
+		this.username = username;
+		this.age = age;
+	}
+	
 	@Builder
 	public MemberInfoDto(Member member) {
 		this.name = member.getName();
@@ -1,10 +1,15 @@
 package com.jpa2.domain.member.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.dto.MemberAuthVersionDto;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -12,5 +17,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 	
 	boolean existsByUsername(String username);
 	
-	Optional<Member> findByRefreshToken(String refreshToken);
+	@Query("select new com.jpa2.domain.member.dto.MemberAuthVersionDto(m.id, m.authVersion, m.lastModifiedDate)"
+			+ " from Member m where m.authVersion > 0 and m.lastModifiedDate > :since")
+	List<MemberAuthVersionDto> findAuthVersionsModifiedAfter(@Param("since") LocalDateTime since); // 최근에 인증 정보가 바뀐 회원 (탈퇴 회원 포함)
 }
\ No newline at end of file
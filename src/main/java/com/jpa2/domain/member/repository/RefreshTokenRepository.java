@@ -0,0 +1,29 @@
+package com.jpa2.domain.member.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.jpa2.domain.member.token.RefreshToken;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+	Optional<RefreshToken> findByTokenHash(String tokenHash);
+	
+	@Query("select r.id from RefreshToken r where r.expiresAt < :now")
+	List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable); // 만료된 토큰을 pageable 크기만큼
+	
+	@Modifying
+	@Query("delete from RefreshToken r where r.tokenHash = :tokenHash")
+	int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+	
+	@Modifying
+	@Query("delete from RefreshToken r where r.memberId = :memberId")
+	int deleteByMemberId(@Param("memberId") Long memberId);
+}
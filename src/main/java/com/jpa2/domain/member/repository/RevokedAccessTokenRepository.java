@@ -0,0 +1,19 @@
+package com.jpa2.domain.member.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.jpa2.domain.member.token.RevokedAccessToken;
+
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+	List<RevokedAccessToken> findByExpiresAtAfter(LocalDateTime now); // 아직 만료되지 않은 토큰
+	
+	@Query("select r.id from RevokedAccessToken r where r.expiresAt < :now")
+	List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable); // 만료된 토큰을 pageable 크기만큼
+}
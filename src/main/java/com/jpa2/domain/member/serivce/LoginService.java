@@ -1,19 +1,23 @@
 package com.jpa2.domain.member.serivce;
 
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.jpa2.domain.member.Member;
 import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.global.util.security.LoginMember;
 
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class LoginService implements UserDetailsService {
+public class LoginService implements UserDetailsService, UserDetailsPasswordService {
 
 	private final MemberRepository memberRepository;
 
@@ -21,12 +25,20 @@ public class LoginService implements UserDetailsService {
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 		Member member = memberRepository.findByUsername(username).orElseThrow(() -> new UsernameNotFoundException("아이디가 없습니다."));
 		
-		return User.builder()
-				.username(member.getUsername())
-				.password(member.getPassword())
-				.roles(member.getRole().name())
-				.build();
+		return new LoginMember(member);
 	}
 	
-	
-}
\ No newline at end of file
+	/**
+	 * 로그인 성공 후 저장된 해시의 방식이나 cost가 현재 설정(password.hashing.*)과 다르면 DaoAuthenticationProvider가 호출
+	 * @param newPassword 로그인한 비밀번호를 현재 설정으로 다시 해시한 값
+	 */
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		Member member = memberRepository.findByUsername(user.getUsername()).orElseThrow(() -> new UsernameNotFoundException("아이디가 없습니다."));
+		member.rehashPassword(newPassword);
+		
+		log.info("비밀번호 해시 갱신 [memberId={}]", member.getId());
+		return new LoginMember(member);
+	}
+}
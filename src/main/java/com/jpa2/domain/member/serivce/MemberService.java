@@ -10,6 +10,7 @@ public interface MemberService {
 	 * 회원가입
 	 * 정보수정
 	 * 회원탈퇴
+	 * 로그아웃
 	 * 정보조회
 	 */
 	
@@ -21,6 +22,8 @@ public interface MemberService {
 	
 	void withdraw(String checkPassword) throws Exception;
 	
+	void logout();
+	
 	MemberInfoDto getinfo(Long id) throws Exception;
 	
 	MemberInfoDto getMyInfo() throws Exception;
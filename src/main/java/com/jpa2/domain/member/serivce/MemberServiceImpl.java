@@ -1,16 +1,23 @@
 package com.jpa2.domain.member.serivce;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.cache.MemberPrincipalCache;
 import com.jpa2.domain.member.dto.MemberInfoDto;
 import com.jpa2.domain.member.dto.MemberSignUpDto;
 import com.jpa2.domain.member.dto.MemberUpdateDto;
 import com.jpa2.domain.member.exception.MemberException;
 import com.jpa2.domain.member.exception.MemberExceptionType;
 import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.member.token.RefreshTokenStore;
+import com.jpa2.domain.member.withdraw.WithdrawnMemberCleaner;
+import com.jpa2.global.jwt.revocation.AccessTokenRevocations;
+import com.jpa2.global.jwt.revocation.MemberVersionRevocations;
 import com.jpa2.global.util.security.SecurityUtil;
+import com.jpa2.global.util.transaction.TransactionUtil;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -22,18 +29,26 @@ public class MemberServiceImpl implements MemberService {
 	
 	private final MemberRepository memberRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final WithdrawnMemberCleaner withdrawnMemberCleaner;
+	private final MemberPrincipalCache memberPrincipalCache;
+	private final MemberVersionRevocations memberVersionRevocations;
+	private final RefreshTokenStore refreshTokenStore;
+	private final AccessTokenRevocations accessTokenRevocations;
+	
+	@Value("${member.withdraw.async:true}")
+	private boolean asyncWithdraw; // false면 탈퇴 요청 트랜잭션에서 게시글/댓글까지 모두 삭제
 	
 	
 	@Override
 	public void signUp(MemberSignUpDto memberSignUpDto) throws Exception { // 회원가입 메서드
+		if (memberRepository.findByUsername(memberSignUpDto.username()).isPresent()) { // 중복검사 (해시 계산 전에)
+			throw new MemberException(MemberExceptionType.ALREADY_EXIST_USERNAME);
+		}
+		
 		Member member = memberSignUpDto.toEntity(); // 빌더패턴으로 회원 객체에 저장
 		member.addUserAuthority(); // entity로 변환 후 USER 권한 부여
 		member.encodePassword(passwordEncoder); // 패스워드 암호화
 		
-		if (memberRepository.findByUsername(memberSignUpDto.username()).isPresent()) { // 중복검사
-			throw new MemberException(MemberExceptionType.ALREADY_EXIST_USERNAME);
-		}
-		
 		memberRepository.save(member);
 	}
 	
@@ -54,6 +69,8 @@ public class MemberServiceImpl implements MemberService {
 			throw new MemberException(MemberExceptionType.WRONG_PASSWORD);
 		}
 		member.updatePassword(passwordEncoder, toBePassword);
+		
+		revokeAfterCommit(member.getId(), member.getUsername(), member.getAuthVersion()); // 인증 정보 버전이 바뀜
 	}
 	
 	@Override
@@ -63,12 +80,34 @@ public class MemberServiceImpl implements MemberService {
 		if (!member.matchPassword(passwordEncoder, checkPassword)) {
 			throw new MemberException(MemberExceptionType.WRONG_PASSWORD);
 		}
+		
+		String username = member.getUsername(); // 탈퇴 시 변경되므로 미리 보관
+		revokeAfterCommit(member.getId(), username, member.getAuthVersion() + 1); // 이후 토큰 인증 실패
+		refreshTokenStore.revokeAll(member.getId()); // 모든 세션 삭제
+		
+		if (asyncWithdraw) { // 탈퇴 상태로만 바꾸고, 게시글/댓글은 커밋 후 백그라운드에서 나눠서 삭제
+			member.withdraw();
+			TransactionUtil.afterCommit(withdrawnMemberCleaner::cleanAsync);
+			return;
+		}
 		memberRepository.delete(member);
 	}
 	
+	/**
+	 * 현재 요청의 AccessToken을 폐기하고 회원의 모든 RefreshToken 삭제
+	 * (다른 기기에서 발급받은 AccessToken은 만료될 때까지 유효)
+	 */
+	@Override
+	public void logout() { // 로그아웃 메서드
+		SecurityUtil.getLoginAccessToken().ifPresent(token -> accessTokenRevocations.revoke(token.tokenId(), token.expiresAt()));
+		refreshTokenStore.revokeAll(SecurityUtil.getLoginMemberId());
+	}
+	
 	@Override
 	public MemberInfoDto getinfo(Long id) throws Exception { // id로 회원정보를 조회하는 메서드
-		Member findMember = memberRepository.findById(id).orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
+		Member findMember = memberRepository.findById(id)
+				.filter(member -> !member.isWithdrawn()) // 삭제 대기 중인 탈퇴 회원
+				.orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
 		
 		return new MemberInfoDto(findMember);
 	}
@@ -80,5 +119,13 @@ public class MemberServiceImpl implements MemberService {
 		return new MemberInfoDto(findMember);
 	}
 	
-	
+	/**
+	 * 커밋 후 캐시된 인증 정보를 지우고, minVersion 미만으로 발급된 AccessToken을 거부 (stateless 모드)
+	 */
+	private void revokeAfterCommit(Long memberId, String username, long minVersion) {
+		TransactionUtil.afterCommit(() -> {
+			memberPrincipalCache.invalidate(username);
+			memberVersionRevocations.revoke(memberId, minVersion);
+		});
+	}
 }
\ No newline at end of file
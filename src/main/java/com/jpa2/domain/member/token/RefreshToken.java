@@ -0,0 +1,63 @@
+package com.jpa2.domain.member.token;
+
+import java.time.LocalDateTime;
+
+import com.jpa2.domain.BaseTimeEntity;
+import com.jpa2.domain.IdSequence;
+import com.jpa2.global.util.security.TokenHashUtil;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그인 세션별 RefreshToken (회원 1명이 여러 개를 가질 수 있음)
+ * 
+ * 토큰 원문 대신 SHA-256(고정 길이 64자)을 유니크 인덱스로 저장
+ * 회원과는 연관관계 없이 id만 보관 -> 회원 삭제 시 FK 순서를 신경 쓰지 않아도 됨 (탈퇴 시 RefreshTokenStore.revokeAll로 삭제)
+ */
+@Entity
+@Table(name = "REFRESH_TOKEN", indexes = {
+		@Index(name = "uk_refresh_token_hash", columnList = "token_hash", unique = true), // 재발급 시 조회
+		@Index(name = "idx_refresh_token_member_id", columnList = "member_id"), // 로그아웃, 탈퇴 시 회원의 세션 모두 삭제
+		@Index(name = "idx_refresh_token_expires_at", columnList = "expires_at") // 만료된 토큰 삭제
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken extends BaseTimeEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "refresh_token_id_generator")
+	@TableGenerator(name = "refresh_token_id_generator", table = IdSequence.TABLE,
+			pkColumnName = IdSequence.PK_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+			pkColumnValue = IdSequence.REFRESH_TOKEN, allocationSize = IdSequence.ALLOCATION_SIZE)
+	@Column(name = "refresh_token_id")
+	private Long id;
+	
+	@Column(name = "token_hash", nullable = false, length = TokenHashUtil.HASH_LENGTH, columnDefinition = "char(64)")
+	private String tokenHash;
+	
+	@Column(name = "member_id", nullable = false)
+	private Long memberId;
+	
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+	
+	public RefreshToken(String tokenHash, Long memberId, LocalDateTime expiresAt) {
+		this.tokenHash = tokenHash;
+		this.memberId = memberId;
+		this.expiresAt = expiresAt;
+	}
+	
+	public boolean isExpired() {
+		return expiresAt.isBefore(LocalDateTime.now());
+	}
+}
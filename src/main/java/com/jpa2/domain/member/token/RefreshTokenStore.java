@@ -0,0 +1,159 @@
+package com.jpa2.domain.member.token;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jpa2.domain.member.repository.RefreshTokenRepository;
+import com.jpa2.global.cache.CacheStatsDto;
+import com.jpa2.global.cache.MonitoredCache;
+import com.jpa2.global.util.security.TokenHashUtil;
+import com.jpa2.global.util.transaction.TransactionUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RefreshToken 저장소 (REFRESH_TOKEN 테이블 + 메모리 캐시)
+ * 
+ * 키는 토큰의 SHA-256 -> 유니크 인덱스로 한 행만 조회
+ * 재발급 요청이 몰려도 캐시에 있으면 DB 조회 없음, 캐시 엔트리는 토큰 만료와 cacheTtl 중 빠른 시점에 만료
+ * (다른 서버에서 로그아웃한 토큰이 이 서버의 캐시에 남아 있을 수 있는 시간은 최대 cacheTtl)
+ * 
+ * 만료된 행은 sweep()이 SWEEP_CHUNK_SIZE 만큼씩 나눠서 삭제
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore implements MonitoredCache {
+
+	private static final int SWEEP_CHUNK_SIZE = 1000;
+	
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Cache<String, Session> cache; // 토큰 해시 -> 세션
+	private final long refreshTokenValidityInSeconds;
+	
+	public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository, PlatformTransactionManager transactionManager,
+							 @Value("${jwt.refresh.expiration}") long refreshTokenValidityInSeconds,
+							 @Value("${jwt.refresh.cache.max-size:10000}") long maxSize,
+							 @Value("${jwt.refresh.cache.ttl-seconds:60}") long cacheTtlSeconds) {
+		this.refreshTokenRepository = refreshTokenRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfter(new UntilSessionExpires(Duration.ofSeconds(cacheTtlSeconds)))
+				.recordStats()
+				.build();
+	}
+	
+	/**
+	 * 새 세션 등록 (기존 세션은 그대로 유지)
+	 */
+	public void issue(Long memberId, String refreshToken) {
+		String tokenHash = TokenHashUtil.sha256(refreshToken);
+		LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(refreshTokenValidityInSeconds);
+		
+		refreshTokenRepository.save(new RefreshToken(tokenHash, memberId, expiresAt));
+		TransactionUtil.afterCommit(() -> cache.put(tokenHash, new Session(memberId, expiresAt)));
+	}
+	
+	/**
+	 * @return 유효한 세션의 회원 id, 없거나 만료되었으면 empty
+	 */
+	public Optional<Long> findMemberId(String refreshToken) {
+		String tokenHash = TokenHashUtil.sha256(refreshToken);
+		
+		Session cached = cache.getIfPresent(tokenHash);
+		if (cached != null) return Optional.of(cached.memberId());
+		
+		return refreshTokenRepository.findByTokenHash(tokenHash)
+				.filter(token -> !token.isExpired())
+				.map(token -> {
+					cache.put(tokenHash, new Session(token.getMemberId(), token.getExpiresAt()));
+					return token.getMemberId();
+				});
+	}
+	
+	public void revoke(String refreshToken) {
+		String tokenHash = TokenHashUtil.sha256(refreshToken);
+		
+		transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.deleteByTokenHash(tokenHash));
+		cache.invalidate(tokenHash);
+	}
+	
+	/**
+	 * 회원의 모든 세션 삭제 (로그아웃, 탈퇴)
+	 * 호출한 트랜잭션에 참여하고, 캐시는 커밋 후에 비움 (캐시 크기만큼 순회)
+	 */
+	public void revokeAll(Long memberId) {
+		transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.deleteByMemberId(memberId));
+		TransactionUtil.afterCommit(() -> cache.asMap().values().removeIf(session -> session.memberId().equals(memberId)));
+	}
+	
+	@Scheduled(fixedDelayString = "${jwt.refresh.sweep-interval-ms:600000}")
+	public void sweep() {
+		long start = System.currentTimeMillis();
+		int deleted = 0;
+		
+		while (true) {
+			List<Long> ids = refreshTokenRepository.findExpiredIds(LocalDateTime.now(), PageRequest.of(0, SWEEP_CHUNK_SIZE));
+			if (ids.isEmpty()) break;
+			
+			transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.deleteAllByIdInBatch(ids));
+			deleted += ids.size();
+		}
+		
+		if (deleted > 0) {
+			log.info("만료된 RefreshToken 삭제 {}개, 시간: {}ms", deleted, System.currentTimeMillis() - start);
+		}
+	}
+	
+	@Override
+	public String getCacheName() {
+		return "refreshToken";
+	}
+	
+	@Override
+	public CacheStatsDto getStats() {
+		return CacheStatsDto.of(cache.estimatedSize(), cache.stats());
+	}
+	
+	private record Session(Long memberId, LocalDateTime expiresAt) {
+	}
+	
+	private static class UntilSessionExpires implements Expiry<String, Session> {
+		
+		private final long maxNanos;
+		
+		UntilSessionExpires(Duration cacheTtl) {
+			this.maxNanos = cacheTtl.toNanos();
+		}
+		
+		@Override
+		public long expireAfterCreate(String key, Session value, long currentTime) {
+			long untilExpires = Duration.between(LocalDateTime.now(), value.expiresAt()).toNanos();
+			return Math.max(0, Math.min(maxNanos, untilExpires));
+		}
+		
+		@Override
+		public long expireAfterUpdate(String key, Session value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+		
+		@Override
+		public long expireAfterRead(String key, Session value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
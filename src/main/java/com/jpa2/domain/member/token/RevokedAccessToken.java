@@ -0,0 +1,50 @@
+package com.jpa2.domain.member.token;
+
+import java.time.LocalDateTime;
+
+import com.jpa2.domain.IdSequence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 만료 전에 폐기(로그아웃)된 AccessToken의 id(jti)
+ * 재시작 시 AccessTokenRevocations가 만료되지 않은 행을 메모리로 다시 읽어옴
+ */
+@Entity
+@Table(name = "REVOKED_ACCESS_TOKEN", indexes = {
+		@Index(name = "uk_revoked_access_token_token_id", columnList = "token_id", unique = true),
+		@Index(name = "idx_revoked_access_token_expires_at", columnList = "expires_at") // 시작 시 로드, 만료된 행 삭제
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedAccessToken {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "revoked_access_token_id_generator")
+	@TableGenerator(name = "revoked_access_token_id_generator", table = IdSequence.TABLE,
+			pkColumnName = IdSequence.PK_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+			pkColumnValue = IdSequence.REVOKED_ACCESS_TOKEN, allocationSize = IdSequence.ALLOCATION_SIZE)
+	@Column(name = "revoked_access_token_id")
+	private Long id;
+	
+	@Column(name = "token_id", nullable = false, length = 36)
+	private String tokenId; // jti (UUID)
+	
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt; // 토큰의 만료 시각, 이후에는 기록할 필요 없음
+	
+	public RevokedAccessToken(String tokenId, LocalDateTime expiresAt) {
+		this.tokenId = tokenId;
+		this.expiresAt = expiresAt;
+	}
+}
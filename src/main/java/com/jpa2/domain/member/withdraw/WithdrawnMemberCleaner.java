@@ -0,0 +1,277 @@
+package com.jpa2.domain.member.withdraw;
+
+import static com.jpa2.domain.comment.QComment.comment;
+import static com.jpa2.domain.member.QMember.member;
+import static com.jpa2.domain.post.QPost.post;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jpa2.domain.comment.QComment;
+import com.jpa2.domain.comment.repository.CommentRepository;
+import com.jpa2.domain.post.cache.PostInfoCache;
+import com.jpa2.domain.post.cache.PostListCache;
+import com.jpa2.domain.post.repository.PostCountCache;
+import com.jpa2.domain.post.repository.PostRepository;
+import com.jpa2.domain.post.search.PostSearchIndex;
+import com.jpa2.global.file.service.FileService;
+import com.jpa2.global.util.transaction.TransactionUtil;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 탈퇴 처리된 회원(Member.withdrawnDate != null)의 게시글, 댓글, 회원 행을 백그라운드에서 삭제
+ *
+ * 탈퇴 요청에서는 회원을 탈퇴 상태로 바꾸기만 하고(MemberServiceImpl.withdraw),
+ * 실제 삭제는 CHUNK_SIZE 만큼씩 나눠 청크마다 별도의 짧은 트랜잭션에서 벌크 DELETE로 실행
+ * -> 게시글/댓글이 많은 회원이 탈퇴해도 긴 트랜잭션, 대량의 엔티티 로딩이 일어나지 않음
+ *
+ * 진행 상태는 DB 자체(아직 남아 있는 행)이므로 중간에 서버가 내려가도 다음 실행에서 남은 부분부터 이어서 삭제
+ * 삭제 순서 (FK 때문에 자식부터)
+ *  1. 대댓글: 회원이 작성했거나, 회원의 댓글/게시글에 달린 것
+ *  2. 댓글: 회원이 작성했거나, 회원의 게시글에 달린 것
+ *  3. 게시글
+ *  4. 회원: 탈퇴 후 AccessToken 유효 기간이 지난 뒤에 삭제
+ *     그 전까지는 회원 행(올라간 authVersion)이 남아 있어야 재시작 시 MemberVersionRevocations가 다시 읽어서 탈퇴 전 토큰을 계속 거부함
+ *     (유효 기간 안에 실행되면 게시글/댓글만 삭제하고, 회원 행은 이후 실행에서 삭제)
+ * 삭제 도중 다른 회원이 새 댓글을 달아 FK 오류가 나면 해당 회원은 건너뛰고 다음 실행에서 다시 시도
+ */
+@Slf4j
+@Component
+public class WithdrawnMemberCleaner {
+
+	private static final QComment parentComment = new QComment("parentComment");
+	private static final int MEMBER_FETCH_SIZE = 100; // 삭제 대상 회원을 한 번에 조회하는 수
+
+	private final JPAQueryFactory query;
+	private final TransactionTemplate transactionTemplate;
+	private final PostRepository postRepository;
+	private final CommentRepository commentRepository;
+	private final PostSearchIndex postSearchIndex;
+	private final PostListCache postListCache;
+	private final PostInfoCache postInfoCache;
+	private final PostCountCache postCountCache;
+	private final FileService fileService;
+	private final int chunkSize;
+	private final long accessTokenValidityInSeconds;
+
+	private final ReentrantLock cleanLock = new ReentrantLock(); // 한 번에 하나의 실행만
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	public WithdrawnMemberCleaner(EntityManager em, PlatformTransactionManager transactionManager,
+								  PostRepository postRepository, CommentRepository commentRepository,
+								  PostSearchIndex postSearchIndex, PostListCache postListCache, PostInfoCache postInfoCache,
+								  PostCountCache postCountCache, FileService fileService,
+								  @Value("${member.withdraw.chunk-size:500}") int chunkSize,
+								  @Value("${jwt.access.expiration}") long accessTokenValidityInSeconds) {
+		this.query = new JPAQueryFactory(em);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.postRepository = postRepository;
+		this.commentRepository = commentRepository;
+		this.postSearchIndex = postSearchIndex;
+		this.postListCache = postListCache;
+		this.postInfoCache = postInfoCache;
+		this.postCountCache = postCountCache;
+		this.fileService = fileService;
+		this.chunkSize = chunkSize;
+		this.accessTokenValidityInSeconds = accessTokenValidityInSeconds;
+	}
+
+	/**
+	 * 탈퇴 요청 직후 호출 -> 스케줄을 기다리지 않고 바로 삭제 시작
+	 */
+	public void cleanAsync() {
+		try {
+			executor.execute(this::clean);
+		} catch (RejectedExecutionException e) { // 종료 중 -> 다음 실행 시 삭제됨
+			log.debug("탈퇴 회원 삭제 요청 무시 (종료 중)");
+		}
+	}
+
+	/**
+	 * 서버가 내려가 있던 동안 남은 탈퇴 회원 삭제 (시작을 지연시키지 않도록 백그라운드에서)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void cleanOnStartup() {
+		cleanAsync();
+	}
+	
+	@Scheduled(fixedDelayString = "${member.withdraw.clean-interval-ms:600000}")
+	public void clean() {
+		if (!cleanLock.tryLock()) return; // 이미 실행 중 -> 실행 중인 작업이 새로 탈퇴한 회원까지 처리
+
+		try {
+			cleanAll();
+		} finally {
+			cleanLock.unlock();
+		}
+	}
+	
+	/**
+	 * 실행 중인 작업(시작 시 실행, 스케줄)이 있으면 끝날 때까지 기다린 뒤 실행 (테스트용)
+	 * clean()은 이미 실행 중이면 바로 반환하므로, 호출한 트랜잭션에서만 보이는 탈퇴 회원은 삭제되지 않을 수 있음
+	 */
+	void cleanNow() {
+		cleanLock.lock();
+		try {
+			cleanAll();
+		} finally {
+			cleanLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow(); // 진행 중인 청크는 롤백되거나 커밋된 상태로 남고, 나머지는 다음 실행에서 이어서 삭제
+	}
+
+	private void cleanAll() {
+		Long lastId = 0L;
+		while (true) {
+			List<Long> memberIds = query.select(member.id)
+					.from(member)
+					.where(member.withdrawnDate.isNotNull(), member.id.gt(lastId))
+					.orderBy(member.id.asc())
+					.limit(MEMBER_FETCH_SIZE)
+					.fetch();
+			if (memberIds.isEmpty()) break;
+
+			memberIds.forEach(this::cleanMember);
+			lastId = memberIds.get(memberIds.size() - 1);
+		}
+	}
+
+	private void cleanMember(Long memberId) {
+		long start = System.currentTimeMillis();
+		int reComments = 0, comments = 0, posts = 0;
+
+		try {
+			int deleted;
+			while ((deleted = deleteCommentChunk(memberId, true)) > 0) reComments += deleted;
+			while ((deleted = deleteCommentChunk(memberId, false)) > 0) comments += deleted;
+			while ((deleted = deletePostChunk(memberId)) > 0) posts += deleted;
+
+			LocalDateTime tokensExpiredAt = LocalDateTime.now().minusSeconds(accessTokenValidityInSeconds); // 이 시각 이전에 탈퇴했으면 탈퇴 전 토큰은 모두 만료
+			transactionTemplate.executeWithoutResult(status -> query.delete(member)
+					.where(member.id.eq(memberId), member.withdrawnDate.before(tokensExpiredAt))
+					.execute());
+		} catch (RuntimeException e) {
+			log.warn("탈퇴 회원 삭제 중단, 다음 실행에서 재시도 [memberId={}]", memberId, e);
+			return;
+		} finally {
+			if (posts > 0 || comments > 0) postListCache.invalidateAll(); // 목록의 댓글 수/게시글이 바뀜
+			if (posts > 0) postCountCache.clear(); // 추정 게시글 수 (PostCountStrategy.ESTIMATED)
+		}
+
+		log.info("탈퇴 회원 삭제 [memberId={}] 시간: {}ms (대댓글 {}개, 댓글 {}개, 게시글 {}개)",
+				memberId, System.currentTimeMillis() - start, reComments, comments, posts);
+	}
+
+	/**
+	 * 삭제할 댓글(또는 대댓글)을 chunkSize 만큼 삭제하고, 남는 게시글/댓글의 댓글 수를 줄임
+	 * @return 삭제한 행 수 (0이면 더 이상 없음)
+	 */
+	private int deleteCommentChunk(Long memberId, boolean reComment) {
+		return transactionTemplate.execute(status -> {
+			lockMember(memberId);
+
+			List<Tuple> rows = query.select(comment.id, comment.post.id, comment.parent.id, comment.isRemoved)
+					.from(comment)
+					.where(reComment ? comment.parent.isNotNull().and(reCommentOf(memberId)) : comment.parent.isNull().and(commentOf(memberId)))
+					.limit(chunkSize)
+					.fetch();
+			if (rows.isEmpty()) return 0;
+
+			List<Long> ids = rows.stream().map(row -> row.get(comment.id)).toList();
+			query.delete(comment).where(comment.id.in(ids)).execute();
+
+			// 삭제되지 않은(isRemoved = false) 댓글만 댓글 수에 포함되어 있음
+			List<Tuple> counted = rows.stream().filter(row -> !Boolean.TRUE.equals(row.get(comment.isRemoved))).toList();
+			Map<Long, Long> postDelta = counted.stream().collect(groupingBy(row -> row.get(comment.post.id), counting()));
+			postDelta.forEach((postId, count) -> postRepository.addCommentCount(postId, -count.intValue()));
+			if (reComment) {
+				counted.stream()
+						.collect(groupingBy(row -> row.get(comment.parent.id), counting()))
+						.forEach((parentId, count) -> commentRepository.addReCommentCount(parentId, -count.intValue()));
+			}
+
+			TransactionUtil.afterCommit(() -> rows.stream()
+					.map(row -> row.get(comment.post.id))
+					.distinct()
+					.forEach(postInfoCache::invalidate));
+			return rows.size();
+		});
+	}
+
+	private int deletePostChunk(Long memberId) {
+		return transactionTemplate.execute(status -> {
+			lockMember(memberId);
+
+			List<Tuple> rows = query.select(post.id, post.filePath)
+					.from(post)
+					.where(post.writer.id.eq(memberId))
+					.limit(chunkSize)
+					.fetch();
+			if (rows.isEmpty()) return 0;
+
+			List<Long> ids = rows.stream().map(row -> row.get(post.id)).toList();
+			query.delete(post).where(post.id.in(ids)).execute();
+
+			TransactionUtil.afterCommit(() -> {
+				rows.stream().map(row -> row.get(post.filePath)).filter(Objects::nonNull).forEach(fileService::delete);
+				ids.forEach(postId -> {
+					postSearchIndex.remove(postId);
+					postInfoCache.invalidate(postId);
+				});
+			});
+			return rows.size();
+		});
+	}
+
+	/**
+	 * 같은 회원을 여러 서버가 동시에 삭제하더라도 청크 단위로 순서대로 실행되도록 회원 행을 잠금
+	 * (잠금 이후의 조회는 먼저 끝난 청크가 삭제한 행을 보지 않으므로 댓글 수를 두 번 줄이지 않음)
+	 */
+	private void lockMember(Long memberId) {
+		query.select(member.id)
+				.from(member)
+				.where(member.id.eq(memberId))
+				.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+				.fetchOne();
+	}
+
+	// 회원의 게시글에 달린 댓글 + 회원이 작성한 댓글
+	private BooleanExpression commentOf(Long memberId) {
+		return comment.writer.id.eq(memberId)
+				.or(comment.post.id.in(JPAExpressions.select(post.id).from(post).where(post.writer.id.eq(memberId))));
+	}
+
+	// 위 조건 + 회원이 작성한 댓글에 달린 대댓글
+	private BooleanExpression reCommentOf(Long memberId) {
+		return commentOf(memberId)
+				.or(comment.parent.id.in(JPAExpressions.select(parentComment.id).from(parentComment).where(parentComment.writer.id.eq(memberId))));
+	}
+}
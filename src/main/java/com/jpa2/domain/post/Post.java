@@ -4,9 +4,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.jpa2.domain.BaseTimeEntity;
+import com.jpa2.domain.IdSequence;
 import com.jpa2.domain.comment.Comment;
 import com.jpa2.domain.member.Member;
 
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -14,24 +18,31 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "POST")
+@Table(name = "POST", indexes = {
+		@Index(name = "idx_post_created_date_id", columnList = "createdDate, post_id") // 커서 페이징용 (createdDate, post_id)
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id_generator")
+	@TableGenerator(name = "post_id_generator", table = IdSequence.TABLE,
+			pkColumnName = IdSequence.PK_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+			pkColumnValue = IdSequence.POST, allocationSize = IdSequence.ALLOCATION_SIZE)
 	@Column(name = "post_id")
 	private Long id;
 	
@@ -49,6 +60,22 @@ public class Post extends BaseTimeEntity {
 	@Column(nullable = true)
 	private String filePath;
 	
+	/**
+	 * 삭제되지 않은 댓글 + 대댓글 수 (비정규화)
+	 * 동시에 달리는 댓글끼리 덮어쓰지 않도록 UPDATE ... SET comment_count = comment_count + 1 로만 변경
+	 * updatable = false -> 게시글 수정 시 엔티티가 들고 있던 이전 값으로 덮어쓰지 않음
+	 */
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private long commentCount;
+	
+	/**
+	 * 조회수, PostViewCounter가 모아서 상대값 UPDATE로만 변경
+	 */
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private long viewCount;
+	
 	@Builder
 	public Post(String title, String content) {
 		this.title = title;
@@ -63,7 +90,9 @@ public class Post extends BaseTimeEntity {
 	public void confirmWriter(Member writer) {
 		//writer는 변경이 불가능하므로 이렇게만 해주어도 될듯
 		this.writer = writer;
-		writer.addPost(this);
+		if (Hibernate.isInitialized(writer)) { // 프록시(getReference)인 경우 컬렉션을 위해 회원을 조회하지 않음
+			writer.addPost(this);
+		}
 	}
 	
 	public void addComment(Comment comment){
@@ -0,0 +1,107 @@
+package com.jpa2.domain.post.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jpa2.domain.post.dto.PostInfoDto;
+import com.jpa2.global.cache.CacheStatsDto;
+import com.jpa2.global.cache.MonitoredCache;
+
+/**
+ * 게시글 상세 조회 결과(PostInfoDto) 캐시, 키는 게시글 id
+ * 
+ * 게시글 수정/삭제, 댓글 작성/수정/삭제 시 해당 게시글의 엔트리를 제거
+ * 
+ * single-flight: 같은 게시글에 대한 요청이 동시에 몰려도 DB 조회(PostInfoDto 조립)는 한 번만 일어나고
+ * 나머지 요청은 먼저 조회를 시작한 요청의 결과를 기다렸다가 함께 사용
+ * 기다리는 동안 커넥션을 점유하지 않도록 트랜잭션 밖에서 호출해야 함 (loader 안에서만 트랜잭션 사용)
+ * 
+ * 조회 도중 같은 게시글이 무효화되면 inFlight에서 해당 조회가 제거되므로, 조회 결과는 반환만 하고 캐시에 넣지 않음
+ * (다른 게시글의 무효화는 영향 없음)
+ */
+@Component
+public class PostInfoCache implements MonitoredCache {
+
+	private final Cache<Long, PostInfoDto> cache;
+	
+	private final Map<Long, CompletableFuture<PostInfoDto>> inFlight = new ConcurrentHashMap<>(); // 조회 중인 게시글
+	
+	public PostInfoCache(@Value("${post.info-cache.max-size:5000}") long maxSize,
+						 @Value("${post.info-cache.ttl-seconds:300}") long ttlSeconds) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.recordStats()
+				.build();
+	}
+	
+	public PostInfoDto get(Long postId, Supplier<PostInfoDto> loader) {
+		PostInfoDto cached = cache.getIfPresent(postId);
+		if (cached != null) return cached;
+		
+		CompletableFuture<PostInfoDto> myFuture = new CompletableFuture<>();
+		CompletableFuture<PostInfoDto> runningFuture = inFlight.putIfAbsent(postId, myFuture);
+		
+		if (runningFuture != null) { // 다른 요청이 이미 조회 중
+			return await(runningFuture);
+		}
+		
+		try {
+			PostInfoDto loaded = loader.get(); // 현재 요청의 스레드에서 조회
+			
+			inFlight.computeIfPresent(postId, (id, future) -> { // invalidate와 원자적으로: 아직 내 조회가 등록되어 있을 때만 캐시
+				if (future != myFuture) return future;
+				
+				cache.put(postId, loaded);
+				return null; // 등록 해제
+			});
+			myFuture.complete(loaded);
+			
+			return loaded;
+		} catch (RuntimeException | Error e) {
+			myFuture.completeExceptionally(e); // 기다리던 요청들도 같은 예외(POST_NOT_FOUND 등)를 받음
+			throw e;
+		} finally {
+			inFlight.remove(postId, myFuture);
+		}
+	}
+	
+	public void invalidate(Long postId) {
+		inFlight.remove(postId); // 진행 중인 (변경 전) 조회는 캐시에 넣지 않고, 이후 요청은 그 조회를 기다리지 않고 새로 조회
+		cache.invalidate(postId);
+	}
+	
+	public void invalidateAll() {
+		inFlight.clear();
+		cache.invalidateAll();
+	}
+	
+	@Override
+	public String getCacheName() {
+		return "postInfo";
+	}
+	
+	@Override
+	public CacheStatsDto getStats() {
+		return CacheStatsDto.of(cache.estimatedSize(), cache.stats());
+	}
+	
+	private PostInfoDto await(CompletableFuture<PostInfoDto> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) throw cause;
+			if (e.getCause() instanceof Error cause) throw cause;
+			throw e;
+		}
+	}
+}
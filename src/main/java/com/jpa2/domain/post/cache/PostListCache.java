@@ -0,0 +1,119 @@
+package com.jpa2.domain.post.cache;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jpa2.domain.post.cond.PostCountStrategy;
+import com.jpa2.domain.post.cond.PostSearchCondition;
+import com.jpa2.domain.post.dto.PostPagingDto;
+import com.jpa2.global.cache.CacheStatsDto;
+import com.jpa2.global.cache.MonitoredCache;
+
+/**
+ * 게시글 검색 결과(PostPagingDto) 캐시
+ * 키: (검색 조건, 페이지 번호, 페이지 크기, 정렬, COUNT 방식)
+ * 
+ * Caffeine(W-TinyLFU)으로 최대 개수를 제한하고, 작성 후 TTL이 지나면 만료
+ * 
+ * 게시글이 저장/수정/삭제되면 해당 게시글의 제목, 내용이 검색 조건에 걸리는 엔트리만 제거
+ * (조건이 없는 검색은 모든 게시글에 걸리므로 항상 제거)
+ * 작성자 이름 변경처럼 게시글 외부의 변경은 TTL 안에서만 반영이 늦어질 수 있음
+ */
+@Component
+public class PostListCache implements MonitoredCache {
+
+	private final Cache<PostListCacheKey, PostPagingDto> cache;
+	
+	/**
+	 * 무효화가 일어날 때마다 증가
+	 * 조회를 시작한 시점과 저장하려는 시점의 값이 다르면, 조회 도중 쓰기가 일어난 것이므로 캐시에 저장하지 않음
+	 * (무효화 이후에 이전 데이터가 다시 캐시에 들어가는 것을 방지)
+	 */
+	private final AtomicLong generation = new AtomicLong();
+	
+	public PostListCache(@Value("${post.list-cache.max-size:10000}") long maxSize,
+						 @Value("${post.list-cache.ttl-seconds:60}") long ttlSeconds) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.recordStats()
+				.build();
+	}
+	
+	public PostPagingDto get(PostSearchCondition postSearchCondition, Pageable pageable, PostCountStrategy countStrategy,
+							 Supplier<PostPagingDto> loader) {
+		
+		PostListCacheKey key = PostListCacheKey.of(postSearchCondition, pageable, countStrategy);
+		
+		PostPagingDto cached = cache.getIfPresent(key);
+		if (cached != null) return cached;
+		
+		long startGeneration = generation.get();
+		PostPagingDto loaded = loader.get();
+		
+		if (generation.get() == startGeneration) {
+			cache.put(key, loaded);
+		}
+		return loaded;
+	}
+	
+	/**
+	 * 게시글의 제목/내용으로 검색했을 때 걸리는 엔트리를 제거
+	 * 수정의 경우 수정 전과 수정 후 모두 호출해야 함
+	 */
+	public void invalidate(String title, String content) {
+		generation.incrementAndGet();
+		cache.asMap().keySet().removeIf(key -> key.matches(title, content));
+	}
+	
+	public void invalidateAll() {
+		generation.incrementAndGet();
+		cache.invalidateAll();
+	}
+	
+	@Override
+	public String getCacheName() {
+		return "postList";
+	}
+	
+	@Override
+	public CacheStatsDto getStats() {
+		return CacheStatsDto.of(cache.estimatedSize(), cache.stats());
+	}
+	
+	
+	private record PostListCacheKey(String title, String content, int page, int size, String sort, PostCountStrategy countStrategy) {
+		
+		static PostListCacheKey of(PostSearchCondition postSearchCondition, Pageable pageable, PostCountStrategy countStrategy) {
+			return new PostListCacheKey(normalize(postSearchCondition.getTitle()), normalize(postSearchCondition.getContent()),
+					pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString(), countStrategy);
+		}
+		
+		/**
+		 * 게시글이 이 검색 조건의 결과에 포함될 수 있는지
+		 * (MariaDB LIKE와 같이 대소문자를 구분하지 않음)
+		 */
+		boolean matches(String postTitle, String postContent) {
+			return contains(postTitle, title) && contains(postContent, content);
+		}
+		
+		private static boolean contains(String text, String keyword) {
+			if (keyword == null) return true; // 조건이 없으면 모든 게시글이 결과에 포함
+			
+			return text != null && text.toLowerCase(Locale.ROOT).contains(keyword);
+		}
+		
+		private static String normalize(String keyword) {
+			return StringUtils.hasLength(keyword) ? keyword.toLowerCase(Locale.ROOT) : null;
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.jpa2.domain.post.cond;
+
+/**
+ * 게시글 검색 시 전체 개수를 구하는 방법
+ * 
+ * EXACT: 매번 SELECT COUNT 쿼리로 정확한 개수 조회
+ * ESTIMATED: 검색 조건별로 COUNT 결과를 TTL 동안 캐싱하여 재사용 (TTL 동안은 오차가 있을 수 있음)
+ * NONE: 전체 개수를 구하지 않고 다음 페이지 존재 여부만 판단
+ */
+public enum PostCountStrategy {
+	EXACT, ESTIMATED, NONE
+}
@@ -0,0 +1,60 @@
+package com.jpa2.domain.post.cond;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.util.StringUtils;
+
+import com.jpa2.domain.post.Post;
+import com.jpa2.domain.post.exception.PostException;
+import com.jpa2.domain.post.exception.PostExceptionType;
+
+/**
+ * 커서(Keyset) 기반 페이징에서 사용하는 위치 정보
+ * (createdDate, post_id) 쌍을 기준으로 다음/이전 페이지를 찾음
+ * 
+ * 클라이언트에게는 Base64로 인코딩된 불투명(opaque) 문자열로만 전달되며,
+ * 이동 방향(backward)도 함께 인코딩되어 있어 클라이언트는 cursor 값만 다시 보내면 됨
+ */
+public record PostCursor(LocalDateTime createdDate, Long postId, boolean backward) {
+
+	private static final String DELIMITER = "|";
+	private static final String FORWARD = "N"; // 다음 페이지 (더 오래된 게시글)
+	private static final String BACKWARD = "P"; // 이전 페이지 (더 최신 게시글)
+	
+	public static PostCursor next(Post post) {
+		return new PostCursor(post.getCreatedDate(), post.getId(), false);
+	}
+	
+	public static PostCursor prev(Post post) {
+		return new PostCursor(post.getCreatedDate(), post.getId(), true);
+	}
+	
+	/**
+	 * 문자열 커서를 해석, 비어있다면 첫 페이지이므로 null 반환
+	 */
+	public static PostCursor decode(String cursor) {
+		if (!StringUtils.hasText(cursor)) return null;
+		
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = decoded.split("\\" + DELIMITER);
+			
+			if (parts.length != 3 || !(FORWARD.equals(parts[0]) || BACKWARD.equals(parts[0]))) {
+				throw new PostException(PostExceptionType.INVALID_CURSOR);
+			}
+			
+			return new PostCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]), BACKWARD.equals(parts[0]));
+		} catch (IllegalArgumentException | DateTimeParseException e) { // NumberFormatException 포함
+			throw new PostException(PostExceptionType.INVALID_CURSOR);
+		}
+	}
+	
+	public String encode() {
+		String raw = (backward ? BACKWARD : FORWARD) + DELIMITER + createdDate + DELIMITER + postId;
+		
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,13 @@
+package com.jpa2.domain.post.cond;
+
+/**
+ * 게시글 검색 시 목록 쿼리와 COUNT 쿼리의 실행 방식
+ * 
+ * SEQUENTIAL: 요청 스레드에서 목록 -> COUNT 순서로 실행 (지연시간 = 두 쿼리의 합)
+ * CONCURRENT: COUNT 쿼리를 별도의 커넥션(가상 스레드)에서 동시에 실행 (지연시간 = 두 쿼리 중 긴 쪽)
+ *             동시에 실행 중인 COUNT 쿼리 수가 제한을 넘거나 풀에 남은 커넥션이 없으면 SEQUENTIAL로 실행
+ *             요청마다 커넥션을 두 개 사용하므로 기본값은 SEQUENTIAL (post.search.execution)
+ */
+public enum PostSearchExecution {
+	SEQUENTIAL, CONCURRENT
+}
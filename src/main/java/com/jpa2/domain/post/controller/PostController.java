@@ -1,27 +1,44 @@
 package com.jpa2.domain.post.controller;
 
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
 import javax.annotation.processing.FilerException;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.ResponseEntity.BodyBuilder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.jpa2.domain.post.cond.PostCountStrategy;
 import com.jpa2.domain.post.cond.PostSearchCondition;
+import com.jpa2.domain.post.dto.PostCursorPagingDto;
 import com.jpa2.domain.post.dto.PostInfoDto;
 import com.jpa2.domain.post.dto.PostPagingDto;
 import com.jpa2.domain.post.dto.PostSaveDto;
 import com.jpa2.domain.post.dto.PostUpdateDto;
 import com.jpa2.domain.post.service.PostService;
+import com.jpa2.global.file.dto.MultipartUploadDto;
+import com.jpa2.global.file.upload.MultipartUploadReader;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -29,6 +46,10 @@ import lombok.RequiredArgsConstructor;
 public class PostController {
 
 	private final PostService postService;
+	private final MultipartUploadReader multipartUploadReader;
+	private final Validator validator;
+	
+	private static final String UPLOAD_FILE_FIELD = "uploadFile"; // PostSaveDto.uploadFile과 같은 이름
 	
 	/**
 	 * 게시글 저장
@@ -43,6 +64,32 @@ public class PostController {
 		}
 	}
 	
+	/**
+	 * 게시글 저장 (첨부 파일을 임시 파일 없이 요청 스트림에서 바로 저장)
+	 * 요청은 POST /post와 같은 multipart/form-data (title, content, uploadFile)
+	 * 파일이 있으면 Repr-Digest 헤더로 저장된 파일의 SHA-256 반환 -> 클라이언트가 전송 결과를 확인할 수 있음
+	 */
+	@PostMapping(value = "/post/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<Void> saveStreaming(HttpServletRequest request) {
+		MultipartUploadDto upload = multipartUploadReader.read(request, UPLOAD_FILE_FIELD);
+		
+		try {
+			PostSaveDto postSaveDto = new PostSaveDto(upload.fields().get("title"), upload.fields().get("content"), Optional.empty());
+			Set<ConstraintViolation<PostSaveDto>> violations = validator.validate(postSaveDto); // 파일을 먼저 받으므로 @Valid 대신 직접 검증
+			if (!violations.isEmpty()) throw new ConstraintViolationException(violations);
+			
+			postService.save(postSaveDto, upload.file());
+		} catch (RuntimeException e) { // 게시글이 저장되지 않았으므로 파일도 삭제
+			multipartUploadReader.discard(upload);
+			throw e;
+		}
+		
+		BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+		upload.file().ifPresent(file -> response.header("Repr-Digest",
+				"sha-256=:" + Base64.getEncoder().encodeToString(HexFormat.of().parseHex(file.checksum())) + ":"));
+		return response.build();
+	}
+	
 	/**
 	 * 게시글 수정
 	 */
@@ -73,11 +120,44 @@ public class PostController {
 	
 	/**
 	 * 게시글 검색
+	 * count: EXACT(기본값), ESTIMATED(캐싱된 개수), NONE(개수 조회 없이 다음 페이지 여부만)
 	 */
 	@GetMapping("/post")
 	public ResponseEntity<PostPagingDto> search(Pageable pageable,
-								 @ModelAttribute PostSearchCondition postSearchCondition) {
+								 @ModelAttribute PostSearchCondition postSearchCondition,
+								 @RequestParam(name = "count", defaultValue = "EXACT") PostCountStrategy countStrategy) {
+		
+		return ResponseEntity.ok(postService.getPostList(pageable, postSearchCondition, countStrategy));
+	}
+	
+	/**
+	 * 게시글 검색 (커서 페이징)
+	 * GET /post?paging=cursor&cursor={이전 응답의 nextCursor 또는 prevCursor}&size=20
+	 * cursor가 없으면 첫 페이지
+	 */
+	@GetMapping(value = "/post", params = "paging=cursor")
+	public ResponseEntity<PostCursorPagingDto> searchByCursor(@RequestParam(name = "cursor", required = false) String cursor,
+															  @RequestParam(name = "size", defaultValue = "20") int size,
+															  @ModelAttribute PostSearchCondition postSearchCondition) {
+		
+		return ResponseEntity.ok(postService.getPostListByCursor(cursor, size, postSearchCondition));
+	}
+	
+	/**
+	 * 검색 조건에 맞는 게시글 내보내기 (NDJSON 스트리밍)
+	 * 페이징 없이 전체 결과를 한 줄에 하나씩 응답에 바로 씀
+	 * 
+	 * 비동기 요청으로 실행되므로 post.export.timeout-ms(AsyncRequestConfig)를 넘으면 중간에 끊김
+	 * 응답을 모두 쓸 때까지 트랜잭션과 DB 커넥션 하나를 계속 사용함 (느린 클라이언트도 그만큼 커넥션을 점유)
+	 * -> 동시에 여러 건을 내보내면 커넥션 풀이 부족해질 수 있음
+	 */
+	@GetMapping(value = "/post/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> export(@ModelAttribute PostSearchCondition postSearchCondition) {
+		
+		StreamingResponseBody body = outputStream -> postService.exportPosts(postSearchCondition, outputStream);
 		
-		return ResponseEntity.ok(postService.getPostList(pageable, postSearchCondition));
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(body);
 	}
 }
@@ -1,5 +1,7 @@
 package com.jpa2.domain.post.dto;
 
+import java.time.LocalDateTime;
+
 import com.jpa2.domain.post.Post;
 
 import lombok.Data;
@@ -15,6 +17,7 @@ public class BriefPostInfo {
 	private String content; // 내용
 	private String writerName; // 작성자 이름
 	private String createdDate; // 작성일
+	private long commentCount; // 댓글 수
 	
 	public BriefPostInfo(Post post) {
 		this.postId = post.getId();
@@ -22,5 +25,19 @@ public class BriefPostInfo {
 		this.content = post.getContent();
 		this.writerName = post.getWriter().getName();
 		this.createdDate = post.getCreatedDate().toString();
+		this.commentCount = post.getCommentCount();
+	}
+	
+	/**
+	 * Projections.constructor 용 생성자
+	 * 엔티티를 거치지 않고 목록에 필요한 컬럼만 조회 (content는 미리보기 길이만큼 잘라서 조회)
+	 */
+	public BriefPostInfo(Long postId, String title, String content, String writerName, LocalDateTime createdDate, long commentCount) {
+		this.postId = postId;
+		this.title = title;
+		this.content = content;
+		this.writerName = writerName;
+		this.createdDate = createdDate.toString();
+		this.commentCount = commentCount;
 	}
 }
\ No newline at end of file
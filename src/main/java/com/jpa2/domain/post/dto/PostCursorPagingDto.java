@@ -0,0 +1,42 @@
+package com.jpa2.domain.post.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jpa2.domain.post.Post;
+import com.jpa2.domain.post.cond.PostCursor;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 페이징 결과
+ * 전체 개수를 세지 않으므로 몇 번째 페이지든 같은 비용으로 조회됨
+ */
+@Data
+@NoArgsConstructor
+public class PostCursorPagingDto {
+
+	private String nextCursor; // 더 오래된 게시글을 조회할 커서 (없으면 null)
+	private String prevCursor; // 더 최신 게시글을 조회할 커서 (없으면 null)
+	private boolean hasNext; // 다음 페이지가 존재하는지
+	private boolean hasPrev; // 이전 페이지가 존재하는지
+	private int currentPageElementCount; // 현재 페이지에 존재하는 게시글 수
+	
+	private List<BriefPostInfo> simpleLectureDtoList = new ArrayList<>();
+	
+	/**
+	 * @param posts 최신순(createdDate desc, post_id desc)으로 정렬된 게시글
+	 */
+	public PostCursorPagingDto(List<Post> posts, boolean hasNext, boolean hasPrev) {
+		this.hasNext = hasNext;
+		this.hasPrev = hasPrev;
+		this.currentPageElementCount = posts.size();
+		this.simpleLectureDtoList = posts.stream().map(BriefPostInfo::new).toList();
+		
+		if (!posts.isEmpty()) {
+			this.nextCursor = hasNext ? PostCursor.next(posts.get(posts.size() - 1)).encode() : null;
+			this.prevCursor = hasPrev ? PostCursor.prev(posts.get(0)).encode() : null;
+		}
+	}
+}
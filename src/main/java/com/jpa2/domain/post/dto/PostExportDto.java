@@ -0,0 +1,29 @@
+package com.jpa2.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+import com.jpa2.domain.post.Post;
+
+/**
+ * 게시글 내보내기(NDJSON)의 한 줄
+ */
+public record PostExportDto(Long postId,
+							String title,
+							String content,
+							String filePath,
+							Long writerId,
+							String writerName,
+							LocalDateTime createdDate,
+							LocalDateTime lastModifiedDate) {
+	
+	public PostExportDto(Post post) {
+		this(post.getId(),
+			 post.getTitle(),
+			 post.getContent(),
+			 post.getFilePath(),
+			 post.getWriter() != null ? post.getWriter().getId() : null,
+			 post.getWriter() != null ? post.getWriter().getName() : null,
+			 post.getCreatedDate(),
+			 post.getLastModifiedDate());
+	}
+}
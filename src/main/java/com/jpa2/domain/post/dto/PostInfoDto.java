@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 
 import com.jpa2.domain.comment.Comment;
 import com.jpa2.domain.comment.dto.CommentInfoDto;
+import com.jpa2.domain.comment.dto.CommentPagingDto;
 import com.jpa2.domain.member.dto.MemberInfoDto;
 import com.jpa2.domain.post.Post;
 
@@ -23,7 +24,11 @@ public class PostInfoDto {
 	
 	private MemberInfoDto writerDto; // 작성자에 대한 정보
 	
+	private long viewCount; // 조회수 (반영 주기만큼 늦게 보일 수 있음)
+	private long commentCount; // 댓글 수
 	private List<CommentInfoDto> commentInfoDtoList; // 댓글 정보들
+	private Long commentNextCursor; // 다음 댓글을 조회할 커서 (없으면 null)
+	private boolean hasNextComment; // 다음 댓글이 존재하는지
 	
 	public PostInfoDto(Post post) {
 		this.postId = post.getId();
@@ -32,6 +37,8 @@ public class PostInfoDto {
 		this.filePath = post.getFilePath();
 		
 		this.writerDto = new MemberInfoDto(post.getWriter());
+		this.viewCount = post.getViewCount();
+		this.commentCount = post.getCommentCount();
 		
 		/**
          * CommentList는 댓글과 대댓글이 모두 섞여있는 상태
@@ -52,4 +59,22 @@ public class PostInfoDto {
 				.map(comment -> new CommentInfoDto(comment, commentListMap.get(comment)))
 				.toList();
 	}
+	
+	/**
+	 * 댓글 첫 페이지를 따로 조회한 경우 (게시글의 commentList를 지연 로딩하지 않음)
+	 */
+	public PostInfoDto(Post post, CommentPagingDto commentPagingDto) {
+		this.postId = post.getId();
+		this.title = post.getTitle();
+		this.content = post.getContent();
+		this.filePath = post.getFilePath();
+		
+		this.writerDto = new MemberInfoDto(post.getWriter());
+		this.viewCount = post.getViewCount();
+		this.commentCount = post.getCommentCount();
+		
+		this.commentInfoDtoList = commentPagingDto.getCommentInfoDtoList();
+		this.commentNextCursor = commentPagingDto.getNextCursor();
+		this.hasNextComment = commentPagingDto.isHasNext();
+	}
 }
\ No newline at end of file
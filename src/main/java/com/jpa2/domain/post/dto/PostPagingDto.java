@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import com.jpa2.domain.post.Post;
 
@@ -18,6 +19,7 @@ public class PostPagingDto {
 	private int currentPageNum; // 현재 몇 페이지 인지
 	private long totalElementCount; // 존재하는 게시글의 총 개수
 	private int currentPageElementCount; // 현재 페이지에 존재하는 게시글 수
+	private boolean hasNext; // 다음 페이지가 존재하는지
 	
 	private List<BriefPostInfo> simpleLectureDtoList = new ArrayList<>();
 	
@@ -26,6 +28,42 @@ public class PostPagingDto {
 		this.currentPageNum = searchResults.getNumber();
 		this.totalElementCount = searchResults.getTotalElements();
 		this.currentPageElementCount = searchResults.getNumberOfElements();
+		this.hasNext = searchResults.hasNext();
 		this.simpleLectureDtoList = searchResults.getContent().stream().map(BriefPostInfo::new).toList();
 	}
+	
+	/**
+	 * 전체 개수를 구하지 않은 경우 (PostCountStrategy.NONE)
+	 * totalPageCount, totalElementCount는 알 수 없으므로 -1
+	 */
+	public PostPagingDto(Slice<Post> searchResults) {
+		this.totalPageCount = -1;
+		this.currentPageNum = searchResults.getNumber();
+		this.totalElementCount = -1;
+		this.currentPageElementCount = searchResults.getNumberOfElements();
+		this.hasNext = searchResults.hasNext();
+		this.simpleLectureDtoList = searchResults.getContent().stream().map(BriefPostInfo::new).toList();
+	}
+	
+	/**
+	 * 컬럼만 조회(Projection)한 결과로 생성
+	 * Page이면 전체 개수를 포함하고, Slice이면 전체 개수는 -1
+	 */
+	public static PostPagingDto ofBriefPostInfo(Slice<BriefPostInfo> searchResults) {
+		PostPagingDto postPagingDto = new PostPagingDto();
+		
+		if (searchResults instanceof Page<BriefPostInfo> page) {
+			postPagingDto.totalPageCount = page.getTotalPages();
+			postPagingDto.totalElementCount = page.getTotalElements();
+		} else {
+			postPagingDto.totalPageCount = -1;
+			postPagingDto.totalElementCount = -1;
+		}
+		postPagingDto.currentPageNum = searchResults.getNumber();
+		postPagingDto.currentPageElementCount = searchResults.getNumberOfElements();
+		postPagingDto.hasNext = searchResults.hasNext();
+		postPagingDto.simpleLectureDtoList = searchResults.getContent();
+		
+		return postPagingDto;
+	}
 }
\ No newline at end of file
@@ -8,7 +8,8 @@ public enum PostExceptionType implements BaseExceptionType {
 
 	POST_NOT_FOUND(700, HttpStatus.NOT_FOUND, "찾으시는 포스트가 없습니다."),
 	NOT_AUTHORITY_UPDATE_POST(701, HttpStatus.FORBIDDEN, "포스트를 업데이트할 권한이 없습니다."),
-	NOT_AUTHORITY_DELETE_POST(702, HttpStatus.FORBIDDEN, "포스트를 삭제할 권한이 없습니다.");
+	NOT_AUTHORITY_DELETE_POST(702, HttpStatus.FORBIDDEN, "포스트를 삭제할 권한이 없습니다."),
+	INVALID_CURSOR(703, HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다.");
 	
 	private int errorCode;
 	HttpStatus httpStatus;
@@ -1,12 +1,71 @@
 package com.jpa2.domain.post.repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.jpa2.domain.post.Post;
+import com.jpa2.domain.post.cond.PostCountStrategy;
+import com.jpa2.domain.post.cond.PostCursor;
 import com.jpa2.domain.post.cond.PostSearchCondition;
+import com.jpa2.domain.post.cond.PostSearchExecution;
+import com.jpa2.domain.post.dto.BriefPostInfo;
 
 public interface CustomPostRepository {
 	
 	Page<Post> search(PostSearchCondition postSearchCondition, Pageable pageable);
+	
+	/**
+	 * 전체 개수를 구하는 방법을 지정해서 검색 (EXACT, ESTIMATED)
+	 * NONE은 searchSlice() 사용
+	 */
+	Page<Post> search(PostSearchCondition postSearchCondition, Pageable pageable, PostCountStrategy countStrategy);
+	
+	/**
+	 * 목록 쿼리와 COUNT 쿼리의 실행 방식(순차/동시)을 지정해서 검색
+	 */
+	Page<Post> search(PostSearchCondition postSearchCondition, Pageable pageable, PostCountStrategy countStrategy,
+					  PostSearchExecution execution);
+	
+	/**
+	 * COUNT 쿼리 없이 다음 페이지 존재 여부만 판단하는 검색
+	 */
+	Slice<Post> searchSlice(PostSearchCondition postSearchCondition, Pageable pageable);
+	
+	/**
+	 * 게시글 목록에 필요한 컬럼만 조회하는 검색 (EXACT, ESTIMATED)
+	 * 엔티티를 조회하지 않으므로 content(@Lob) 전체와 작성자의 나머지 컬럼을 읽지 않음
+	 */
+	Page<BriefPostInfo> searchBriefPostInfo(PostSearchCondition postSearchCondition, Pageable pageable, PostCountStrategy countStrategy);
+	
+	Page<BriefPostInfo> searchBriefPostInfo(PostSearchCondition postSearchCondition, Pageable pageable, PostCountStrategy countStrategy,
+											PostSearchExecution execution);
+	
+	/**
+	 * 게시글 목록에 필요한 컬럼만 조회하는 검색 (NONE)
+	 */
+	Slice<BriefPostInfo> searchBriefPostInfoSlice(PostSearchCondition postSearchCondition, Pageable pageable);
+	
+	/**
+	 * 검색 조건에 맞는 게시글 전체를 post_id 순서로 스트리밍 (내보내기용)
+	 * JDBC fetch size 단위로 읽어오므로 결과 전체가 메모리에 올라오지 않음
+	 * 반드시 트랜잭션 안에서 사용하고, 사용 후 close 해야 함
+	 */
+	Stream<Post> streamSearch(PostSearchCondition postSearchCondition, int fetchSize);
+	
+	/**
+	 * 커서 기반 검색
+	 * offset 없이 (createdDate, post_id) 인덱스를 따라 커서 위치부터 limit 만큼만 읽음
+	 * 정방향이면 최신순, 역방향(cursor.backward)이면 오래된순으로 반환
+	 */
+	List<Post> searchByCursor(PostSearchCondition postSearchCondition, PostCursor cursor, int limit);
+	
+	/**
+	 * 댓글 수를 delta 만큼 변경 (UPDATE ... SET comment_count = comment_count + delta)
+	 * 읽고 쓰는 사이에 다른 트랜잭션의 변경을 덮어쓰지 않도록 DB에서 바로 더함
+	 */
+	void addCommentCount(Long postId, int delta);
 }
\ No newline at end of file
@@ -4,15 +4,35 @@ import static com.jpa2.domain.member.QMember.member;
 import static com.jpa2.domain.post.QPost.post;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import com.jpa2.domain.post.Post;
+import com.jpa2.domain.post.cond.PostCountStrategy;
+import com.jpa2.domain.post.cond.PostCursor;
 import com.jpa2.domain.post.cond.PostSearchCondition;
+import com.jpa2.domain.post.cond.PostSearchExecution;
+import com.jpa2.domain.post.dto.BriefPostInfo;
+import com.jpa2.domain.post.search.PostSearchIndex;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -22,35 +42,297 @@ import jakarta.persistence.EntityManager;
 @Repository
 public class CustomPostRepositoryImpl implements CustomPostRepository {
    
+	private static final int CONTENT_PREVIEW_LENGTH = 100; // 목록에서 보여줄 내용 미리보기 길이
+	
 	private final JPAQueryFactory query;
+	private final PostCountCache postCountCache;
+	private final PostSearchIndex postSearchIndex;
+	private final PostQueryExecutor postQueryExecutor;
+	private final int maxIndexCandidates; // 후보가 이보다 많으면 IN 절이 오히려 느리므로 LIKE 검색으로 처리
+	private final long countTimeoutMillis; // CONCURRENT에서 COUNT 결과를 기다리는 최대 시간, 넘으면 요청 스레드에서 다시 셈
 	
-	public CustomPostRepositoryImpl(EntityManager em) {
+	public CustomPostRepositoryImpl(EntityManager em, PostCountCache postCountCache, PostSearchIndex postSearchIndex,
+									PostQueryExecutor postQueryExecutor,
+									@Value("${post.search-index.max-candidates:5000}") int maxIndexCandidates,
+									@Value("${post.search.concurrent.count-timeout-ms:1000}") long countTimeoutMillis) {
 		query = new JPAQueryFactory(em);
+		this.postCountCache = postCountCache;
+		this.postSearchIndex = postSearchIndex;
+		this.postQueryExecutor = postQueryExecutor;
+		this.maxIndexCandidates = maxIndexCandidates;
+		this.countTimeoutMillis = countTimeoutMillis;
 	}
 
 	@Override
 	public Page<Post> search(PostSearchCondition postSearchCondition, Pageable pageable) {
+		return search(postSearchCondition, pageable, PostCountStrategy.EXACT);
+	}
+	
+	@Override
+	public Page<Post> search(PostSearchCondition postSearchCondition, Pageable pageable, PostCountStrategy countStrategy) {
+		return search(postSearchCondition, pageable, countStrategy, PostSearchExecution.SEQUENTIAL);
+	}
+	
+	@Override
+	public Page<Post> search(PostSearchCondition postSearchCondition, Pageable pageable, PostCountStrategy countStrategy,
+							 PostSearchExecution execution) {
+		
+		Set<Long> candidateIds = findCandidates(postSearchCondition);
+		if (candidateIds != null && candidateIds.isEmpty()) { // 색인에서 걸러진 경우 DB 조회 없이 빈 결과
+			return new PageImpl<>(List.of(), pageable, 0);
+		}
+		
+		return fetchPage(() -> contentQuery(postSearchCondition, candidateIds)
+					.offset(pageable.getOffset())
+					.limit(pageable.getPageSize())
+					.fetch(),
+				postSearchCondition, candidateIds, pageable, countStrategy, execution);
+	}
+	
+	@Override
+	public Slice<Post> searchSlice(PostSearchCondition postSearchCondition, Pageable pageable) {
+		
+		Set<Long> candidateIds = findCandidates(postSearchCondition);
+		if (candidateIds != null && candidateIds.isEmpty()) {
+			return new SliceImpl<>(List.of(), pageable, false);
+		}
+		
+		List<Post> content = contentQuery(postSearchCondition, candidateIds)
+					.offset(pageable.getOffset())
+					.limit(pageable.getPageSize() + 1) // 한 건 더 조회해서 다음 페이지가 있는지 판단
+					.fetch();
+		
+		boolean hasNext = content.size() > pageable.getPageSize();
+		if (hasNext) {
+			content = content.subList(0, pageable.getPageSize());
+		}
+		
+		return new SliceImpl<>(content, pageable, hasNext);
+	}
+	
+	@Override
+	public Page<BriefPostInfo> searchBriefPostInfo(PostSearchCondition postSearchCondition, Pageable pageable, PostCountStrategy countStrategy) {
+		return searchBriefPostInfo(postSearchCondition, pageable, countStrategy, PostSearchExecution.SEQUENTIAL);
+	}
+	
+	@Override
+	public Page<BriefPostInfo> searchBriefPostInfo(PostSearchCondition postSearchCondition, Pageable pageable, PostCountStrategy countStrategy,
+												   PostSearchExecution execution) {
+		
+		Set<Long> candidateIds = findCandidates(postSearchCondition);
+		if (candidateIds != null && candidateIds.isEmpty()) {
+			return new PageImpl<>(List.of(), pageable, 0);
+		}
+		
+		return fetchPage(() -> briefPostInfoQuery(postSearchCondition, candidateIds)
+					.offset(pageable.getOffset())
+					.limit(pageable.getPageSize())
+					.fetch(),
+				postSearchCondition, candidateIds, pageable, countStrategy, execution);
+	}
+	
+	/**
+	 * 목록 쿼리와 COUNT 쿼리를 실행하여 Page로 합침
+	 * 
+	 * 목록 쿼리는 항상 요청 스레드(현재 트랜잭션)에서 실행
+	 * CONCURRENT인 경우 COUNT 쿼리를 먼저 별도의 커넥션에서 시작해두고 목록 쿼리를 실행
+	 * (두 쿼리가 서로 다른 커넥션에서 실행되므로, 그 사이에 커밋된 변경은 한쪽에만 보일 수 있음)
+	 * 
+	 * PageableExecutionUtils는 첫 페이지의 결과가 size보다 작거나 마지막 페이지인 경우 COUNT 결과를 사용하지 않음
+	 */
+	private <T> Page<T> fetchPage(Supplier<List<T>> contentQuery, PostSearchCondition postSearchCondition, Set<Long> candidateIds,
+								  Pageable pageable, PostCountStrategy countStrategy, PostSearchExecution execution) {
+		
+		if (countStrategy == PostCountStrategy.NONE) {
+			throw new IllegalArgumentException("COUNT를 사용하지 않는 검색은 Slice를 반환하는 메서드를 사용해야 합니다.");
+		}
+		
+		CompletableFuture<Long> countFuture = (execution == PostSearchExecution.CONCURRENT)
+				? postQueryExecutor.trySubmit(em -> count(new JPAQueryFactory(em), postSearchCondition, candidateIds, countStrategy))
+				: null;
+		
+		List<T> content = contentQuery.get();
 		
-		List<Post> content = query.selectFrom(post)
+		LongSupplier inlineCount = () -> count(query, postSearchCondition, candidateIds, countStrategy);
+		if (countFuture == null) { // SEQUENTIAL 또는 동시 실행 제한에 걸린 경우
+			return PageableExecutionUtils.getPage(content, pageable, inlineCount);
+		}
+		return PageableExecutionUtils.getPage(content, pageable, () -> await(countFuture, inlineCount));
+	}
+	
+	/**
+	 * 엔티티를 모두 가져와서 size()를 세는 대신 SELECT COUNT 쿼리 사용
+	 */
+	private long count(JPAQueryFactory queryFactory, PostSearchCondition postSearchCondition, Set<Long> candidateIds,
+					   PostCountStrategy countStrategy) {
+		
+		JPAQuery<Long> countQuery = queryFactory.select(post.count())
+				.from(post)
 				.where(
 						contentHasStr(postSearchCondition.getContent()),
-						titleHasStr(postSearchCondition.getTitle())
+						titleHasStr(postSearchCondition.getTitle()),
+						idIn(candidateIds)
+				);
+		
+		if (countStrategy == PostCountStrategy.ESTIMATED) {
+			return postCountCache.get(postSearchCondition, countQuery::fetchOne);
+		}
+		return countQuery.fetchOne();
+	}
+	
+	/**
+	 * countTimeoutMillis 안에 끝나지 않으면(커넥션을 얻지 못하는 경우 등) 기다리지 않고 요청 스레드에서 셈
+	 */
+	private long await(CompletableFuture<Long> countFuture, LongSupplier inlineCount) {
+		try {
+			return countFuture.get(countTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			return inlineCount.getAsLong();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return inlineCount.getAsLong();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) throw cause;
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+	
+	@Override
+	public Slice<BriefPostInfo> searchBriefPostInfoSlice(PostSearchCondition postSearchCondition, Pageable pageable) {
+		
+		Set<Long> candidateIds = findCandidates(postSearchCondition);
+		if (candidateIds != null && candidateIds.isEmpty()) {
+			return new SliceImpl<>(List.of(), pageable, false);
+		}
+		
+		List<BriefPostInfo> content = briefPostInfoQuery(postSearchCondition, candidateIds)
+					.offset(pageable.getOffset())
+					.limit(pageable.getPageSize() + 1)
+					.fetch();
+		
+		boolean hasNext = content.size() > pageable.getPageSize();
+		if (hasNext) {
+			content = content.subList(0, pageable.getPageSize());
+		}
+		
+		return new SliceImpl<>(content, pageable, hasNext);
+	}
+	
+	/**
+	 * 목록에 필요한 (id, 제목, 내용 미리보기, 작성자 이름, 작성일)만 조회
+	 * 내용은 SQL의 SUBSTRING으로 잘라서 가져오므로 @Lob 전체가 전송되지 않음
+	 */
+	private JPAQuery<BriefPostInfo> briefPostInfoQuery(PostSearchCondition postSearchCondition, Set<Long> candidateIds) {
+		return query.select(Projections.constructor(BriefPostInfo.class,
+						post.id,
+						post.title,
+						post.content.substring(0, CONTENT_PREVIEW_LENGTH),
+						member.name,
+						post.createdDate,
+						post.commentCount))
+				.from(post)
+				.leftJoin(post.writer, member)
+				.where(
+						contentHasStr(postSearchCondition.getContent()),
+						titleHasStr(postSearchCondition.getTitle()),
+						idIn(candidateIds)
+				)
+				.orderBy(post.createdDate.desc());
+	}
+	
+	@Override
+	public Stream<Post> streamSearch(PostSearchCondition postSearchCondition, int fetchSize) {
+		
+		Set<Long> candidateIds = findCandidates(postSearchCondition);
+		if (candidateIds != null && candidateIds.isEmpty()) {
+			return Stream.empty();
+		}
+		
+		return query.selectFrom(post)
+				.leftJoin(post.writer, member)
+				.fetchJoin()
+				.where(
+						contentHasStr(postSearchCondition.getContent()),
+						titleHasStr(postSearchCondition.getTitle()),
+						idIn(candidateIds)
+				)
+				.orderBy(post.id.asc()) // PK 순서로 읽어 정렬 비용 없음
+				.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize) // 전방향(forward-only) 스크롤 + fetch size
+				.setHint(HibernateHints.HINT_READ_ONLY, true) // 변경 감지용 스냅샷을 만들지 않음
+				.stream();
+	}
+	
+	private JPAQuery<Post> contentQuery(PostSearchCondition postSearchCondition, Set<Long> candidateIds) {
+		return query.selectFrom(post)
+				.where(
+						contentHasStr(postSearchCondition.getContent()),
+						titleHasStr(postSearchCondition.getTitle()),
+						idIn(candidateIds)
 				)
 				.leftJoin(post.writer, member)
 				
 				.fetchJoin()
-					.orderBy(post.createdDate.desc()) // 최신 날짜부터
-					.offset(pageable.getOffset())
-					.limit(pageable.getPageSize())
-					.fetch();
+					.orderBy(post.createdDate.desc()); // 최신 날짜부터
+	}
+	
+	@Override
+	public List<Post> searchByCursor(PostSearchCondition postSearchCondition, PostCursor cursor, int limit) {
+		boolean backward = cursor != null && cursor.backward();
 		
-		JPAQuery<Post> countQuery = query.selectFrom(post)
+		Set<Long> candidateIds = findCandidates(postSearchCondition);
+		if (candidateIds != null && candidateIds.isEmpty()) {
+			return List.of();
+		}
+		
+		return query.selectFrom(post)
+				.leftJoin(post.writer, member)
+				.fetchJoin()
 				.where(
 						contentHasStr(postSearchCondition.getContent()),
-						titleHasStr(postSearchCondition.getTitle())
-				);
+						titleHasStr(postSearchCondition.getTitle()),
+						idIn(candidateIds),
+						afterCursor(cursor)
+				)
+				.orderBy(
+						backward ? post.createdDate.asc() : post.createdDate.desc(),
+						backward ? post.id.asc() : post.id.desc() // 작성일이 같은 경우 id로 순서 고정
+				)
+				.limit(limit)
+				.fetch();
+	}
+	
+	/**
+	 * 정방향: (createdDate < c.createdDate) or (createdDate = c.createdDate and id < c.id)
+	 * 역방향: 부등호 반대
+	 */
+	private BooleanExpression afterCursor(PostCursor cursor) {
+		if (cursor == null) return null; // 첫 페이지
+		
+		if (cursor.backward()) {
+			return post.createdDate.gt(cursor.createdDate())
+					.or(post.createdDate.eq(cursor.createdDate()).and(post.id.gt(cursor.postId())));
+		}
+		return post.createdDate.lt(cursor.createdDate())
+				.or(post.createdDate.eq(cursor.createdDate()).and(post.id.lt(cursor.postId())));
+	}
+	
+	/**
+	 * n-gram 색인으로 검색 조건을 만족할 수 있는 게시글 id 후보를 구함
+	 * null이면 색인을 사용할 수 없으므로 LIKE 조건만으로 검색
+	 * 
+	 * 후보가 있는 경우에도 LIKE 조건은 그대로 적용하여 bigram은 모두 포함하지만
+	 * 검색어를 연속으로 포함하지 않는 게시글을 걸러냄 (PK로 좁혀진 행에만 LIKE가 적용됨)
+	 */
+	private Set<Long> findCandidates(PostSearchCondition postSearchCondition) {
+		Set<Long> candidateIds = postSearchIndex.findCandidates(postSearchCondition.getTitle(), postSearchCondition.getContent());
+		
+		if (candidateIds != null && candidateIds.size() > maxIndexCandidates) return null;
 		
-		return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetch().size());
+		return candidateIds;
+	}
+	
+	private BooleanExpression idIn(Set<Long> candidateIds) {
+		return candidateIds != null ? post.id.in(candidateIds) : null;
 	}
 	
 	private BooleanExpression contentHasStr(String content) {
@@ -60,4 +342,12 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
 	private BooleanExpression titleHasStr(String title) {
 		return StringUtils.hasLength(title) ? post.title.contains(title) : null;
 	}
-}
\ No newline at end of file
+	
+	@Override
+	public void addCommentCount(Long postId, int delta) {
+		query.update(post)
+				.set(post.commentCount, post.commentCount.add(delta))
+				.where(post.id.eq(postId))
+				.execute();
+	}
+}
@@ -0,0 +1,70 @@
+package com.jpa2.domain.post.repository;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jpa2.domain.post.cond.PostSearchCondition;
+
+/**
+ * 검색 조건별 게시글 COUNT 결과를 TTL 동안 보관하는 캐시
+ * PostCountStrategy.ESTIMATED 에서 사용
+ * 
+ * 엔트리 수가 maxSize를 넘으면 만료된 엔트리부터 정리하고, 그래도 넘치면 임의의 엔트리를 제거
+ */
+@Component
+public class PostCountCache {
+
+	private final long ttlMillis;
+	private final int maxSize;
+	
+	private final Map<CountKey, CountEntry> cache = new ConcurrentHashMap<>();
+	
+	public PostCountCache(@Value("${post.count-cache.ttl-seconds:30}") long ttlSeconds,
+						  @Value("${post.count-cache.max-size:1000}") int maxSize) {
+		this.ttlMillis = ttlSeconds * 1000;
+		this.maxSize = maxSize;
+	}
+	
+	public long get(PostSearchCondition postSearchCondition, LongSupplier countSupplier) {
+		CountKey key = new CountKey(postSearchCondition.getTitle(), postSearchCondition.getContent());
+		long now = System.currentTimeMillis();
+		
+		CountEntry entry = cache.get(key);
+		if (entry != null && entry.expiresAt() > now) {
+			return entry.count();
+		}
+		
+		long count = countSupplier.getAsLong();
+		
+		if (cache.size() >= maxSize) {
+			evict(now);
+		}
+		cache.put(key, new CountEntry(count, now + ttlMillis));
+		
+		return count;
+	}
+	
+	public void clear() {
+		cache.clear();
+	}
+	
+	private void evict(long now) {
+		cache.values().removeIf(entry -> entry.expiresAt() <= now);
+		
+		Iterator<CountKey> iterator = cache.keySet().iterator();
+		while (cache.size() >= maxSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+	
+	// PostSearchCondition은 변경 가능한 객체이므로 키로는 값만 복사해서 사용
+	private record CountKey(String title, String content) {}
+	
+	private record CountEntry(long count, long expiresAt) {}
+}
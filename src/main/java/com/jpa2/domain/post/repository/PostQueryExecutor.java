@@ -0,0 +1,84 @@
+package com.jpa2.domain.post.repository;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 요청 스레드와 별개로 쿼리를 실행하는 실행기 (PostSearchExecution.CONCURRENT 에서 사용)
+ * 
+ * 작업마다 가상 스레드와 새로운 EntityManager(= 별도의 커넥션)를 사용
+ * 요청 스레드는 자기 트랜잭션의 커넥션을 잡은 채로 결과를 기다리므로, 작업 하나에 커넥션이 두 개 필요함
+ * -> 커넥션 풀이 고갈되면 요청 스레드들이 서로의 커넥션을 기다리며 connectionTimeout까지 멈춤
+ * 
+ * 그래서 아래의 경우에는 기다리지 않고 null을 반환 -> 호출하는 쪽에서 요청 스레드(자기 커넥션)로 실행
+ *  - 동시에 실행 중인 작업 수가 permits 이상 (maxConcurrency와 풀 크기의 절반 중 작은 값, 나머지는 요청 스레드의 몫)
+ *  - 풀에 남은(idle) 커넥션이 없음
+ */
+@Component
+public class PostQueryExecutor {
+
+	private final EntityManagerFactory emf;
+	private final HikariDataSource hikariDataSource; // Hikari가 아니면 null (idle 커넥션 확인 생략)
+	private final Semaphore permits;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	
+	public PostQueryExecutor(EntityManagerFactory emf, DataSource dataSource,
+							 @Value("${post.search.concurrent.max-concurrency:8}") int maxConcurrency) {
+		this.emf = emf;
+		this.hikariDataSource = dataSource instanceof HikariDataSource hikari ? hikari : null;
+		this.permits = new Semaphore(hikariDataSource != null
+				? Math.min(maxConcurrency, hikariDataSource.getMaximumPoolSize() / 2)
+				: maxConcurrency);
+	}
+	
+	/**
+	 * @return 실행을 시작했다면 결과 Future, 동시 실행 제한에 걸렸거나 남은 커넥션이 없다면 null
+	 */
+	public <T> CompletableFuture<T> trySubmit(Function<EntityManager, T> task) {
+		if (!hasIdleConnection()) return null;
+		if (!permits.tryAcquire()) return null;
+		
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				EntityManager em = emf.createEntityManager();
+				try {
+					return task.apply(em);
+				} finally {
+					em.close();
+					permits.release();
+				}
+			}, executor);
+		} catch (RejectedExecutionException e) { // 종료 중
+			permits.release();
+			return null;
+		}
+	}
+	
+	private boolean hasIdleConnection() {
+		if (hikariDataSource == null) return true;
+		
+		HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean(); // 풀이 시작되기 전에는 null
+		return pool == null || pool.getIdleConnections() > 0;
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,149 @@
+package com.jpa2.domain.post.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 제목/내용에 대한 메모리 기반 n-gram(bigram) 역색인
+ * 
+ * LIKE '%검색어%'는 인덱스를 탈 수 없어 @Lob 컬럼 전체를 스캔하게 되므로,
+ * 검색어의 bigram을 모두 포함하는 게시글 id(후보)를 먼저 구한 뒤 해당 id들만 DB에서 조회
+ * 
+ * 한글은 띄어쓰기 없이 붙여쓰는 경우가 많아 형태소 단위보다 bigram이 부분 검색에 적합
+ * bigram을 모두 포함한다고 해서 검색어를 연속으로 포함한다는 보장은 없으므로
+ * 후보는 실제 결과의 상위 집합이고, 정확한 판별은 DB의 LIKE 조건으로 한 번 더 걸러냄
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+	private static final int GRAM_SIZE = 2;
+	
+	private final boolean enabled;
+	
+	private final Map<String, Set<Long>> titleIndex = new ConcurrentHashMap<>(); // bigram -> 게시글 id
+	private final Map<String, Set<Long>> contentIndex = new ConcurrentHashMap<>();
+	
+	private final Map<Long, IndexedPost> indexedPosts = new ConcurrentHashMap<>(); // 수정/삭제 시 기존 bigram을 지우기 위해 보관
+	
+	private volatile boolean ready = false; // 시작 시 DB로부터 재구성이 끝났는지
+	
+	public PostSearchIndex(@Value("${post.search-index.enabled:true}") boolean enabled) {
+		this.enabled = enabled;
+	}
+	
+	
+	//== 색인 ==//
+	public synchronized void index(Long postId, String title, String content) {
+		remove(postId);
+		
+		IndexedPost indexedPost = new IndexedPost(grams(title), grams(content));
+		indexedPost.titleGrams().forEach(gram -> titleIndex.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(postId));
+		indexedPost.contentGrams().forEach(gram -> contentIndex.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(postId));
+		
+		indexedPosts.put(postId, indexedPost);
+	}
+	
+	public synchronized void remove(Long postId) {
+		IndexedPost indexedPost = indexedPosts.remove(postId);
+		if (indexedPost == null) return;
+		
+		indexedPost.titleGrams().forEach(gram -> removePosting(titleIndex, gram, postId));
+		indexedPost.contentGrams().forEach(gram -> removePosting(contentIndex, gram, postId));
+	}
+	
+	public synchronized void clear() {
+		ready = false;
+		titleIndex.clear();
+		contentIndex.clear();
+		indexedPosts.clear();
+	}
+	
+	public void markReady() {
+		ready = true;
+		log.info("게시글 검색 색인 구성 완료. 게시글 수: {}, title bigram 수: {}, content bigram 수: {}",
+				indexedPosts.size(), titleIndex.size(), contentIndex.size());
+	}
+	
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	
+	//== 검색 ==//
+	/**
+	 * 검색 조건을 만족할 수 있는 게시글 id 후보 반환
+	 * 
+	 * 색인으로 판단할 수 없는 경우(색인 비활성/구성 전, 검색 조건 없음, 검색어가 bigram보다 짧음) null 반환
+	 * -> 호출하는 쪽에서 기존 LIKE 검색으로 처리
+	 */
+	public Set<Long> findCandidates(String title, String content) {
+		if (!enabled || !ready) return null;
+		
+		Set<Long> titleCandidates = find(titleIndex, title);
+		Set<Long> contentCandidates = find(contentIndex, content);
+		
+		if (titleCandidates == null) return contentCandidates;
+		if (contentCandidates == null) return titleCandidates;
+		
+		titleCandidates.retainAll(contentCandidates);
+		return titleCandidates;
+	}
+	
+	private Set<Long> find(Map<String, Set<Long>> index, String keyword) {
+		if (!StringUtils.hasLength(keyword) || keyword.length() < GRAM_SIZE) return null;
+		
+		List<Set<Long>> postings = new ArrayList<>();
+		for (String gram : grams(keyword)) {
+			Set<Long> posting = index.get(gram);
+			if (posting == null || posting.isEmpty()) return new HashSet<>(); // 하나라도 없는 bigram이 있으면 결과 없음
+			
+			postings.add(posting);
+		}
+		postings.sort(Comparator.comparingInt(Set::size)); // 가장 작은 집합부터 교집합
+		
+		Set<Long> result = new HashSet<>(postings.get(0));
+		for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+			result.retainAll(postings.get(i));
+		}
+		return result;
+	}
+	
+	
+	//== 토큰화 ==//
+	/**
+	 * 소문자로 바꾼 뒤 GRAM_SIZE 글자씩 잘라 중복 없이 반환
+	 * (MariaDB의 기본 collation은 대소문자를 구분하지 않으므로 LIKE 검색과 맞춤)
+	 */
+	static Set<String> grams(String text) {
+		Set<String> grams = new HashSet<>();
+		if (text == null) return grams;
+		
+		String normalized = text.toLowerCase(Locale.ROOT);
+		for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+			grams.add(normalized.substring(i, i + GRAM_SIZE));
+		}
+		return grams;
+	}
+	
+	private void removePosting(Map<String, Set<Long>> index, String gram, Long postId) {
+		index.computeIfPresent(gram, (key, posting) -> {
+			posting.remove(postId);
+			return posting.isEmpty() ? null : posting; // 비어있는 bigram은 제거해서 메모리 회수
+		});
+	}
+	
+	private record IndexedPost(Set<String> titleGrams, Set<String> contentGrams) {}
+}
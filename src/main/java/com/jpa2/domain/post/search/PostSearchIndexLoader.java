@@ -0,0 +1,65 @@
+package com.jpa2.domain.post.search;
+
+import static com.jpa2.domain.post.QPost.post;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션 시작 시 DB의 게시글로 PostSearchIndex를 재구성
+ * 
+ * 엔티티가 아닌 (id, title, content)만 조회하고,
+ * post_id 기준 keyset 방식으로 CHUNK_SIZE 만큼씩 나눠 읽어 메모리 사용량을 일정하게 유지
+ */
+@Slf4j
+@Component
+public class PostSearchIndexLoader {
+
+	private final JPAQueryFactory query;
+	private final PostSearchIndex postSearchIndex;
+	private final int chunkSize;
+	
+	public PostSearchIndexLoader(EntityManager em, PostSearchIndex postSearchIndex,
+								 @Value("${post.search-index.chunk-size:1000}") int chunkSize) {
+		this.query = new JPAQueryFactory(em);
+		this.postSearchIndex = postSearchIndex;
+		this.chunkSize = chunkSize;
+	}
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		if (!postSearchIndex.isEnabled()) return;
+		
+		postSearchIndex.clear();
+		
+		long start = System.currentTimeMillis();
+		Long lastId = 0L;
+		
+		while (true) {
+			List<Tuple> chunk = query.select(post.id, post.title, post.content)
+					.from(post)
+					.where(post.id.gt(lastId))
+					.orderBy(post.id.asc())
+					.limit(chunkSize)
+					.fetch();
+			
+			chunk.forEach(row -> postSearchIndex.index(row.get(post.id), row.get(post.title), row.get(post.content)));
+			
+			if (chunk.size() < chunkSize) break;
+			lastId = chunk.get(chunk.size() - 1).get(post.id);
+		}
+		
+		postSearchIndex.markReady();
+		log.info("게시글 검색 색인 재구성 시간: {}ms", System.currentTimeMillis() - start);
+	}
+}
@@ -1,14 +1,22 @@
 package com.jpa2.domain.post.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
 import javax.annotation.processing.FilerException;
 
 import org.springframework.data.domain.Pageable;
 
+import com.jpa2.domain.post.cond.PostCountStrategy;
 import com.jpa2.domain.post.cond.PostSearchCondition;
+import com.jpa2.domain.post.dto.PostCursorPagingDto;
 import com.jpa2.domain.post.dto.PostInfoDto;
 import com.jpa2.domain.post.dto.PostPagingDto;
 import com.jpa2.domain.post.dto.PostSaveDto;
 import com.jpa2.domain.post.dto.PostUpdateDto;
+import com.jpa2.global.file.dto.StoredFileDto;
 
 public interface PostService {
 	
@@ -17,6 +25,17 @@ public interface PostService {
 	 */
 	void save(PostSaveDto postSaveDto) throws FilerException;
 	
+	/**
+	 * 게시글 등록 (첨부 파일은 이미 저장됨, MultipartUploadReader)
+	 */
+	void save(PostSaveDto postSaveDto, Optional<StoredFileDto> storedFile);
+	
+	/**
+	 * 게시글 여러 개를 한 번에 등록 (가져오기용, 첨부 파일은 저장하지 않음)
+	 * @return 저장된 게시글 id (입력 순서와 같음)
+	 */
+	List<Long> saveAll(List<PostSaveDto> postSaveDtoList);
+	
 	/**
 	 * 게시글 수정
 	 */
@@ -36,4 +55,19 @@ public interface PostService {
 	 * 검색 조건에 따른 게시글 리스트 조회 + 페이징
 	 */
 	PostPagingDto getPostList(Pageable pageable, PostSearchCondition postSearchCondition);
+	
+	/**
+	 * 검색 조건에 따른 게시글 리스트 조회 + 페이징 (전체 개수 조회 방법 지정)
+	 */
+	PostPagingDto getPostList(Pageable pageable, PostSearchCondition postSearchCondition, PostCountStrategy countStrategy);
+	
+	/**
+	 * 검색 조건에 따른 게시글 리스트 조회 + 커서 페이징
+	 */
+	PostCursorPagingDto getPostListByCursor(String cursor, int size, PostSearchCondition postSearchCondition);
+	
+	/**
+	 * 검색 조건에 맞는 게시글 전체를 NDJSON(한 줄에 게시글 하나)으로 내보내기
+	 */
+	void exportPosts(PostSearchCondition postSearchCondition, OutputStream outputStream) throws IOException;
 }
\ No newline at end of file
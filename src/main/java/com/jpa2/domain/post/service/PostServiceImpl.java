@@ -1,16 +1,35 @@
 package com.jpa2.domain.post.service;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import javax.annotation.processing.FilerException;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.jpa2.domain.member.exception.MemberException;
-import com.jpa2.domain.member.exception.MemberExceptionType;
-import com.jpa2.domain.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jpa2.domain.comment.service.CommentService;
+import com.jpa2.domain.member.Member;
 import com.jpa2.domain.post.Post;
+import com.jpa2.domain.post.cache.PostInfoCache;
+import com.jpa2.domain.post.cache.PostListCache;
+import com.jpa2.domain.post.cond.PostCountStrategy;
+import com.jpa2.domain.post.cond.PostCursor;
 import com.jpa2.domain.post.cond.PostSearchCondition;
+import com.jpa2.domain.post.cond.PostSearchExecution;
+import com.jpa2.domain.post.dto.PostCursorPagingDto;
+import com.jpa2.domain.post.dto.PostExportDto;
 import com.jpa2.domain.post.dto.PostInfoDto;
 import com.jpa2.domain.post.dto.PostPagingDto;
 import com.jpa2.domain.post.dto.PostSaveDto;
@@ -18,12 +37,18 @@ import com.jpa2.domain.post.dto.PostUpdateDto;
 import com.jpa2.domain.post.exception.PostException;
 import com.jpa2.domain.post.exception.PostExceptionType;
 import com.jpa2.domain.post.repository.PostRepository;
+import com.jpa2.domain.post.search.PostSearchIndex;
+import com.jpa2.domain.post.view.PostViewCounter;
+import com.jpa2.global.file.dto.StoredFileDto;
 import com.jpa2.global.file.exception.FileException;
 import com.jpa2.global.file.exception.FileExceptionType;
 import com.jpa2.global.file.service.FileService;
 import com.jpa2.global.util.security.SecurityUtil;
+import com.jpa2.global.util.transaction.TransactionUtil;
 
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -32,16 +57,30 @@ import lombok.RequiredArgsConstructor;
 public class PostServiceImpl implements PostService {
 
 	private final PostRepository postRepository;
-	private final MemberRepository memberRepository;
+	private final CommentService commentService;
 	private final FileService fileService;
+	private final PostSearchIndex postSearchIndex;
+	private final PostListCache postListCache;
+	private final PostInfoCache postInfoCache;
+	private final PostViewCounter postViewCounter;
+	private final EntityManager em;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	
+	private static final int MAX_CURSOR_PAGE_SIZE = 100; // 커서 페이징 한 번에 조회할 수 있는 최대 게시글 수
+	private static final int EXPORT_FETCH_SIZE = 500; // 내보내기 시 JDBC로 한 번에 가져올 행 수
+	private static final int COMMENT_PAGE_SIZE = 20; // 게시글 상세 조회 시 함께 조회할 댓글 수
+	private static final int BULK_FLUSH_SIZE = 1000; // 여러 개를 등록할 때 flush + clear 하는 단위
+	
+	@Value("${post.search.execution:SEQUENTIAL}")
+	private PostSearchExecution searchExecution; // 목록 쿼리와 COUNT 쿼리를 동시에 실행할지 (CONCURRENT는 요청마다 커넥션을 두 개 사용)
 	
 	
 	@Override
 	public void save(PostSaveDto postSaveDto) throws FilerException {
 		Post post = postSaveDto.toEntity();
 		
-		post.confirmWriter(memberRepository.findByUsername(SecurityUtil.getLoginUsername()) // 로그인한 사용자를 작성자로 매핑
-				.orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER)));
+		post.confirmWriter(em.getReference(Member.class, SecurityUtil.getLoginMemberId())); // 로그인한 사용자를 작성자로 매핑 (조회 없이 프록시로)
 		
 		postSaveDto.uploadFile().ifPresent(
 				file -> {
@@ -54,7 +93,62 @@ public class PostServiceImpl implements PostService {
 				}
 		);
 		
+		persist(post);
+	}
+	
+	@Override
+	public void save(PostSaveDto postSaveDto, Optional<StoredFileDto> storedFile) {
+		Post post = postSaveDto.toEntity();
+		
+		post.confirmWriter(em.getReference(Member.class, SecurityUtil.getLoginMemberId())); // 로그인한 사용자를 작성자로 매핑 (조회 없이 프록시로)
+		storedFile.map(StoredFileDto::filePath).ifPresent(post::updateFilePath);
+		
+		persist(post);
+	}
+	
+	private void persist(Post post) {
 		postRepository.save(post);
+		
+		TransactionUtil.afterCommit(() -> {
+			postSearchIndex.index(post.getId(), post.getTitle(), post.getContent());
+			postListCache.invalidate(post.getTitle(), post.getContent());
+		});
+	}
+	
+	/**
+	 * id를 시퀀스 테이블에서 미리 받아두므로 persist 시점에 INSERT가 실행되지 않고
+	 * flush 시점에 JDBC 배치(hibernate.jdbc.batch_size)로 묶여서 실행됨
+	 * 
+	 * BULK_FLUSH_SIZE 개마다 flush + clear 해서 영속성 컨텍스트가 입력 크기만큼 커지지 않도록 함
+	 * (clear 이후에는 이 트랜잭션에서 앞서 조회한 엔티티가 준영속 상태가 됨)
+	 */
+	@Override
+	public List<Long> saveAll(List<PostSaveDto> postSaveDtoList) {
+		Long writerId = SecurityUtil.getLoginMemberId();
+		
+		List<Long> ids = new ArrayList<>(postSaveDtoList.size());
+		Member writer = em.getReference(Member.class, writerId);
+		
+		for (PostSaveDto postSaveDto : postSaveDtoList) {
+			Post post = postSaveDto.toEntity();
+			post.confirmWriter(writer);
+			postRepository.save(post);
+			ids.add(post.getId());
+			
+			if (ids.size() % BULK_FLUSH_SIZE == 0) {
+				em.flush();
+				em.clear();
+				writer = em.getReference(Member.class, writerId);
+			}
+		}
+		
+		TransactionUtil.afterCommit(() -> {
+			for (int i = 0; i < ids.size(); i++) {
+				postSearchIndex.index(ids.get(i), postSaveDtoList.get(i).title(), postSaveDtoList.get(i).content());
+			}
+			postListCache.invalidateAll();
+		});
+		return ids;
 	}
 	
 	@Override
@@ -64,6 +158,9 @@ public class PostServiceImpl implements PostService {
 		
 		checkAuthority(post, PostExceptionType.NOT_AUTHORITY_UPDATE_POST);
 		
+		String oldTitle = post.getTitle(); // 수정 전 제목/내용으로 걸리는 검색 결과도 무효화해야 함
+		String oldContent = post.getContent();
+		
 		postUpdateDto.title().ifPresent(post::updateTitle);
 		postUpdateDto.content().ifPresent(post::updateContent);
 		
@@ -80,6 +177,13 @@ public class PostServiceImpl implements PostService {
 					}
 				}, () -> post.updateFilePath(null)
 		);
+		
+		TransactionUtil.afterCommit(() -> {
+			postSearchIndex.index(post.getId(), post.getTitle(), post.getContent());
+			postListCache.invalidate(oldTitle, oldContent);
+			postListCache.invalidate(post.getTitle(), post.getContent());
+			postInfoCache.invalidate(id);
+		});
 	}
 	
 	@Override
@@ -93,33 +197,115 @@ public class PostServiceImpl implements PostService {
 			fileService.delete(post.getFilePath()); // 기존에 올린 파일 지우기
 		}
 		postRepository.delete(post);
+		
+		String title = post.getTitle();
+		String content = post.getContent();
+		TransactionUtil.afterCommit(() -> {
+			postSearchIndex.remove(id);
+			postListCache.invalidate(title, content);
+			postInfoCache.invalidate(id);
+		});
 	}
 	
 	/**
 	 * Post의 id를 통해 Post 조회
+	 * 조립한 PostInfoDto는 PostInfoCache에 보관되며, 게시글/댓글이 변경되면 무효화됨
+	 * 조회수는 캐시 적중 여부와 상관없이 메모리에만 누적 (DB 반영은 PostViewCounter가 모아서 처리)
 	 */
 	@Override
+	@Transactional(TxType.SUPPORTS) // 캐시 조회, single-flight 대기 중에는 커넥션을 잡지 않음 (조회할 때만 트랜잭션)
 	public PostInfoDto getPostInfo(Long id) {
 		/**
 	     * Post + MEMBER 조회 -> 쿼리 1번 발생
 	     *
-	     * 댓글&대댓글 리스트 조회 -> 쿼리 1번 발생(POST ID로 찾는 것이므로, IN쿼리가 아닌 일반 where문 발생)
-	     * (댓글과 대댓글 모두 Comment 클래스이므로, JPA는 구분할 방법이 없어서, 당연히 CommentList에 모두 나오는것이 맞다,
-	     * 가지고 온 것을 가지고 구분지어주어야 한다.)
+	     * 댓글 첫 페이지 + 댓글마다 앞쪽 대댓글 조회 -> Projection으로 쿼리 2번 발생
+	     * (나머지 댓글/대댓글은 커서로 따로 조회, 댓글/대댓글 수는 비정규화된 컬럼 사용)
 	     *
-	     * 댓글 작성자 정보 조회 -> 배치사이즈를 이용했기때문에 쿼리 1번 혹은 N/배치사이즈 만큼 발생
+	     * 댓글 수와 상관없이 항상 쿼리 3번, 읽는 행 수도 첫 페이지 크기로 제한됨
 	     */
-		return new PostInfoDto(postRepository.findWithWriterById(id)
-				.orElseThrow(() -> new PostException(PostExceptionType.POST_NOT_FOUND)));
+		PostInfoDto postInfoDto = postInfoCache.get(id, () -> transactionTemplate.execute(status -> {
+			Post post = postRepository.findWithWriterById(id)
+					.orElseThrow(() -> new PostException(PostExceptionType.POST_NOT_FOUND));
+			
+			return new PostInfoDto(post, commentService.getCommentList(id, null, COMMENT_PAGE_SIZE));
+		}));
+		
+		postViewCounter.increment(id);
+		return postInfoDto;
 	}
 	
 	@Override
 	public PostPagingDto getPostList(Pageable pageable, PostSearchCondition postSearchCondition) {
-		return new PostPagingDto(postRepository.search(postSearchCondition, pageable));
+		return getPostList(pageable, postSearchCondition, PostCountStrategy.EXACT);
+	}
+	
+	@Override
+	public PostPagingDto getPostList(Pageable pageable, PostSearchCondition postSearchCondition, PostCountStrategy countStrategy) {
+		return postListCache.get(postSearchCondition, pageable, countStrategy, () -> {
+			if (countStrategy == PostCountStrategy.NONE) {
+				return PostPagingDto.ofBriefPostInfo(postRepository.searchBriefPostInfoSlice(postSearchCondition, pageable));
+			}
+			return PostPagingDto.ofBriefPostInfo(postRepository.searchBriefPostInfo(postSearchCondition, pageable, countStrategy, searchExecution));
+		});
+	}
+	
+	/**
+	 * size + 1개를 조회해서 한 건이 더 있다면 다음(역방향이면 이전) 페이지가 존재하는 것으로 판단
+	 * 역방향으로 조회한 결과는 오래된순이므로 다시 최신순으로 뒤집어서 반환
+	 */
+	@Override
+	public PostCursorPagingDto getPostListByCursor(String cursor, int size, PostSearchCondition postSearchCondition) {
+		PostCursor postCursor = PostCursor.decode(cursor);
+		size = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+		
+		List<Post> posts = new ArrayList<>(postRepository.searchByCursor(postSearchCondition, postCursor, size + 1));
+		
+		boolean hasMore = posts.size() > size;
+		if (hasMore) {
+			posts.remove(size);
+		}
+		
+		if (postCursor != null && postCursor.backward()) {
+			Collections.reverse(posts);
+			return new PostCursorPagingDto(posts, true, hasMore);
+		}
+		return new PostCursorPagingDto(posts, hasMore, postCursor != null);
+	}
+	
+	/**
+	 * 스트림으로 한 건씩 읽어 바로 응답에 쓰고, 쓴 엔티티는 영속성 컨텍스트에서 분리(detach)
+	 * 작성자(Member)는 게시글마다 공유되므로 EXPORT_FETCH_SIZE 건마다 영속성 컨텍스트를 비움
+	 * -> 결과가 몇 건이든 메모리 사용량이 일정하게 유지됨
+	 * 
+	 * 스트림(JDBC ResultSet)을 읽는 동안, 즉 응답을 모두 쓸 때까지 트랜잭션과 커넥션이 유지됨
+	 */
+	@Override
+	public void exportPosts(PostSearchCondition postSearchCondition, OutputStream outputStream) throws IOException {
+		BufferedOutputStream out = new BufferedOutputStream(outputStream);
+		
+		try (Stream<Post> posts = postRepository.streamSearch(postSearchCondition, EXPORT_FETCH_SIZE)) {
+			Iterator<Post> iterator = posts.iterator();
+			int count = 0;
+			
+			while (iterator.hasNext()) {
+				Post post = iterator.next();
+				
+				out.write(objectMapper.writeValueAsBytes(new PostExportDto(post)));
+				out.write('\n');
+				
+				em.detach(post);
+				
+				if (++count % EXPORT_FETCH_SIZE == 0) {
+					em.clear();
+					out.flush(); // 클라이언트가 받는 대로 처리할 수 있도록 주기적으로 전송
+				}
+			}
+		}
+		out.flush();
 	}
 	
 	private void checkAuthority(Post post, PostExceptionType postExceptionType) {
-		if(!post.getWriter().getUsername().equals(SecurityUtil.getLoginUsername()))
+		if(!post.getWriter().getId().equals(SecurityUtil.getLoginMemberId())) // 프록시의 id는 작성자를 조회하지 않음
 			throw new PostException(postExceptionType);
 	}
 }
\ No newline at end of file
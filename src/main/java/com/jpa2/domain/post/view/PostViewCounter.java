@@ -0,0 +1,143 @@
+package com.jpa2.domain.post.view;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 (write-behind)
+ * 
+ * 조회할 때마다 UPDATE 하면 읽기 위주의 상세 조회가 같은 행에 대한 쓰기 경합으로 바뀌므로
+ * 메모리에 게시글별 LongAdder로 누적해 두고, 일정 주기로 누적된 증가분만 JDBC 배치로 반영
+ * (UPDATE post SET view_count = view_count + ? WHERE post_id = ?)
+ * 
+ * - LongAdder는 내부적으로 셀을 나눠서 더하므로 인기 게시글 하나에 조회가 몰려도 CAS 경합이 적음
+ * - 누적 중인 게시글 수는 maxPending으로 제한, 가득 차면 새 게시글의 조회는 버리고 버린 수만 기록
+ *   (이미 누적 중인 게시글은 메모리가 늘지 않으므로 계속 누적)
+ * - DB 반영에 실패한 증가분은 다시 누적해서 다음 주기에 재시도
+ * - 애플리케이션 종료 시 남은 증가분을 반영
+ * 
+ * 반영 직전/직후에 들어온 조회가 드물게 빠질 수 있는 근사치이며,
+ * 반영 전까지(최대 flush 주기만큼)는 DB의 조회수에 보이지 않음
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+	private static final String FLUSH_SQL = "UPDATE post SET view_count = view_count + ? WHERE post_id = ?";
+	
+	private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>(); // 게시글 id -> 아직 반영하지 않은 조회수
+	private final AtomicLong dropped = new AtomicLong(); // 누적 한도를 넘어 버린 조회수
+	private final ReentrantLock flushLock = new ReentrantLock(); // 주기적 반영과 종료 시 반영이 겹치지 않도록
+	
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int maxPending;
+	private final int batchSize;
+	
+	public PostViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+						   @Value("${post.view.max-pending:10000}") int maxPending,
+						   @Value("${post.view.batch-size:500}") int batchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.maxPending = maxPending;
+		this.batchSize = batchSize;
+	}
+	
+	public void increment(Long postId) {
+		LongAdder adder = pending.get(postId);
+		
+		if (adder == null) {
+			if (pending.size() >= maxPending) {
+				dropped.incrementAndGet();
+				return;
+			}
+			adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+		}
+		adder.increment();
+	}
+	
+	@Scheduled(fixedDelayString = "${post.view.flush-interval-ms:5000}")
+	public void flush() {
+		flushLock.lock();
+		try {
+			List<Delta> deltas = drain();
+			
+			/**
+			 * post_id 순서로 반영 -> 여러 인스턴스가 동시에 반영해도 행 락을 같은 순서로 잡으므로 데드락이 생기지 않음
+			 * 배치마다 별도의 트랜잭션, 실패한 배치만 다시 누적
+			 */
+			deltas.sort(Comparator.comparing(Delta::postId));
+			
+			for (int from = 0; from < deltas.size(); from += batchSize) {
+				List<Delta> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+				try {
+					transactionTemplate.executeWithoutResult(status ->
+							jdbcTemplate.batchUpdate(FLUSH_SQL, batch, batch.size(), (ps, delta) -> {
+								ps.setLong(1, delta.count());
+								ps.setLong(2, delta.postId());
+							}));
+				} catch (RuntimeException e) {
+					log.warn("게시글 조회수 반영 실패, 다음 주기에 재시도: {}건", batch.size(), e);
+					batch.forEach(delta -> pending.computeIfAbsent(delta.postId(), id -> new LongAdder()).add(delta.count()));
+				}
+			}
+			
+			long droppedCount = dropped.getAndSet(0);
+			if (droppedCount > 0) {
+				log.warn("누적 한도({})를 넘어 반영하지 못한 게시글 조회수: {}", maxPending, droppedCount);
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+	
+	/**
+	 * 누적된 증가분을 꺼내고 0으로 초기화
+	 * 이번 주기에 조회가 없었던 게시글은 Map에서 제거해서 누적 중인 게시글 수를 줄임
+	 * (제거 직전에 더해진 조회는 제거 후 다시 확인해서 다음 주기로 넘김)
+	 */
+	private List<Delta> drain() {
+		List<Delta> deltas = new ArrayList<>();
+		
+		for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+			long count = entry.getValue().sumThenReset();
+			
+			if (count > 0) {
+				deltas.add(new Delta(entry.getKey(), count));
+				continue;
+			}
+			
+			if (pending.remove(entry.getKey(), entry.getValue())) {
+				long late = entry.getValue().sumThenReset();
+				if (late > 0) {
+					deltas.add(new Delta(entry.getKey(), late));
+				}
+			}
+		}
+		return deltas;
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		flush();
+	}
+	
+	private record Delta(Long postId, long count) {
+	}
+}
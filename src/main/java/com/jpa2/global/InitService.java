@@ -1,118 +1,284 @@
 package com.jpa2.global;
 
-import static java.lang.Long.parseLong;
-import static java.lang.String.format;
-import static java.lang.String.valueOf;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.jpa2.domain.comment.Comment;
-import com.jpa2.domain.comment.repository.CommentRepository;
-import com.jpa2.domain.member.Member;
+import com.jpa2.domain.IdSequence;
 import com.jpa2.domain.member.Role;
-import com.jpa2.domain.member.repository.MemberRepository;
-import com.jpa2.domain.post.Post;
-import com.jpa2.domain.post.repository.PostRepository;
+import com.jpa2.domain.post.cache.PostListCache;
+import com.jpa2.domain.post.repository.PostCountCache;
+import com.jpa2.domain.post.search.PostSearchIndexLoader;
 
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
- * @PostConstruct 해당 빈 자체만 생성되었다고 가정하고 호출됨
- * 해당 빈에 관련된 AOP 등을 포함한 전체 스프링 애플리케이션 컨텍스트가 초기화 된 것을 의미하지 않음
- * 트랜잭션을 처리하는 AOP 등은 스프링의 후 처리기(post processer)가 완전히 동작을 끝내서
- * 스프링 애플리케이션 컨텍스트의 초기화가 완료되어야 적용됨
- * 
- * @PostConstruct: 해당 빈의 AOP 적용을 보장하지 않는다.
+ * 부하 테스트용 대량 데이터 생성기 (init 프로필에서만 동작)
+ * ex) java -jar app.jar --spring.profiles.active=init --init.members=100000 --init.posts=1000000
+ *
+ * 엔티티/리포지토리를 거치지 않고 JdbcTemplate 배치 INSERT로 저장
+ * - id는 시퀀스 테이블(ID_SEQUENCE)에서 블록 단위로 예약 -> 애플리케이션이 발급하는 id와 겹치지 않음
+ * - 게시글을 post-chunk-size 개씩 나눠 workers 개의 스레드가 동시에 저장, 청크(게시글 + 댓글 + 대댓글)마다 트랜잭션 1번
+ * - 댓글 수, 대댓글 수 컬럼도 생성한 행에 맞춰 함께 저장하므로 별도로 재계산할 필요 없음
+ *
+ * 분포
+ * - 작성자: 회원 순위에 대해 Zipf 분포 (skew가 클수록 소수의 회원이 대부분의 글을 씀, 0이면 균등)
+ * - 게시글당 댓글 수, 댓글당 대댓글 수: 평균이 comments-per-post, replies-per-comment인 지수 분포 (인기 게시글에 댓글이 몰리는 긴 꼬리)
+ * - 제목/내용: 작은 단어 집합에서 Zipf 분포로 뽑음 -> 검색어마다 결과 수가 크게 달라짐
  */
-/*
-@RequiredArgsConstructor
+@Slf4j
+@Profile("init")
 @Component
 public class InitService {
 
-	private final Init init;
-	
-	@PostConstruct
-	public void init() {
-		init.save();
+	private static final String[] WORDS = {
+			"자바", "스프링", "JPA", "쿼리", "게시글", "댓글", "인덱스", "캐시", "트랜잭션", "페이징",
+			"검색", "성능", "테스트", "배포", "서버", "데이터베이스", "마리아DB", "영속성", "엔티티", "연관관계",
+			"지연로딩", "페치조인", "배치", "스레드", "동시성", "보안", "토큰", "로그인", "회원", "설정"
+	};
+
+	private static final String MEMBER_SQL = "INSERT INTO member (member_id, username, password, name, nick_name, age, role, created_date, last_modified_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String POST_SQL = "INSERT INTO post (post_id, writer_id, title, content, comment_count, view_count, created_date, last_modified_date) VALUES (?, ?, ?, ?, ?, 0, ?, ?)";
+	private static final String COMMENT_SQL = "INSERT INTO comment (comment_id, writer_id, post_id, parent_id, content, is_removed, re_comment_count, created_date, last_modified_date) VALUES (?, ?, ?, ?, ?, false, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final PasswordEncoder passwordEncoder;
+	private final PostSearchIndexLoader postSearchIndexLoader;
+	private final PostListCache postListCache;
+	private final PostCountCache postCountCache;
+
+	@Value("${init.members:1000}") private int members;
+	@Value("${init.posts:100000}") private int posts;
+	@Value("${init.comments-per-post:5}") private double commentsPerPost; // 평균
+	@Value("${init.replies-per-comment:2}") private double repliesPerComment; // 평균
+	@Value("${init.max-comments-per-post:2000}") private int maxCommentsPerPost;
+	@Value("${init.skew:1.0}") private double skew; // Zipf 지수
+	@Value("${init.content-words:50}") private int contentWords;
+	@Value("${init.days:365}") private int days; // 최근 며칠 동안 작성된 것으로 할지
+	@Value("${init.post-chunk-size:200}") private int postChunkSize;
+	@Value("${init.workers:4}") private int workers;
+	@Value("${init.seed:42}") private long seed;
+
+	private final AtomicLong memberRows = new AtomicLong();
+	private final AtomicLong postRows = new AtomicLong();
+	private final AtomicLong commentRows = new AtomicLong();
+	private final AtomicLong replyRows = new AtomicLong();
+
+	public InitService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, PasswordEncoder passwordEncoder,
+					   PostSearchIndexLoader postSearchIndexLoader, PostListCache postListCache, PostCountCache postCountCache) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.passwordEncoder = passwordEncoder;
+		this.postSearchIndexLoader = postSearchIndexLoader;
+		this.postListCache = postListCache;
+		this.postCountCache = postCountCache;
 	}
-	
-	@RequiredArgsConstructor
-	@Component
-	private static class Init{
-		private final MemberRepository memberRepository;
-		private final PostRepository postRepository;
-		private final CommentRepository commentRepository;
-		
-		@Transactional
-		public void save() {
-			PasswordEncoder delegatingPasswordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
-			
-			//== MEMBER 저장 ==//
-			memberRepository.save(Member.builder()
-					.username("username1")
-					.password(delegatingPasswordEncoder.encode("1234567890"))
-					.name("USER1")
-					.nickName("NICKNAME1")
-					.role(Role.USER)
-					.age(20)
-					.build());
-			
-			memberRepository.save(Member.builder()
-					.username("username2")
-					.password(delegatingPasswordEncoder.encode("1234567890"))
-					.name("USER2")
-					.nickName("NICKNAME2")
-					.role(Role.USER)
-					.age(21)
-					.build());
-			
-			memberRepository.save(Member.builder()
-					.username("username3")
-					.password(delegatingPasswordEncoder.encode("1234567890"))
-					.name("USER3")
-					.nickName("NICKNAME3")
-					.role(Role.USER)
-					.age(23)
-					.build());
-			
-			Member member = memberRepository.findById(1L).orElse(null);
-			
-			for (int i=0; i<=50; i++) {
-				Post post = Post.builder()
-						.title(format("게시글 %s", i)).content(format("내용 %s", i)).build();
-				post.confirmWriter(memberRepository.findById((long) (i % 3 + 1)).orElse(null)); // ID: 1에서 3 사이의 값
-				
-				postRepository.save(post);
-			}
-			
-			for (int i=1; i<=150; i++) {
-				Comment comment = Comment.builder()
-						.content("댓글" + i).build();
-				comment.confirmPost(postRepository.findById(parseLong(valueOf(i % 50 + 1))).orElse(null)); // 1~50까지의 게시물에 댓글
-				
-				commentRepository.save(comment);
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void init() throws Exception {
+		log.info("데이터 생성 시작: 회원 {}, 게시글 {}, 게시글당 댓글 {}, 댓글당 대댓글 {}, skew {}, workers {}",
+				members, posts, commentsPerPost, repliesPerComment, skew, workers);
+
+		long start = System.nanoTime();
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		try {
+			String password = passwordEncoder.encode("1234567890"); // 해시 계산은 비싸므로 모든 회원이 같은 값을 사용
+			long firstMemberId = reserveIds(IdSequence.MEMBER, members);
+			runChunks(executor, members, 1_000, (from, to, random) -> saveMembers(firstMemberId, password, from, to));
+			report("회원", memberRows.get(), start);
+
+			long postStart = System.nanoTime();
+			Zipf writers = new Zipf(members, skew);
+			Zipf words = new Zipf(WORDS.length, skew);
+			runChunks(executor, posts, postChunkSize, (from, to, random) -> savePosts(to - from, firstMemberId, writers, words, random));
+			report("게시글", postRows.get(), postStart);
+			report("댓글", commentRows.get(), postStart);
+			report("대댓글", replyRows.get(), postStart);
+		} finally {
+			executor.shutdown();
+		}
+
+		long total = memberRows.get() + postRows.get() + commentRows.get() + replyRows.get();
+		report("전체", total, start);
+
+		// 직접 INSERT한 게시글을 검색 색인과 캐시에 반영
+		postSearchIndexLoader.rebuild();
+		postListCache.invalidateAll();
+		postCountCache.clear();
+	}
+
+	/**
+	 * [0, total)을 chunkSize 단위로 나눠 workers 개의 스레드에서 실행
+	 * 청크마다 seed에서 파생한 난수를 사용하므로 스레드 수와 상관없이 같은 데이터가 생성됨 (id 제외)
+	 */
+	private void runChunks(ExecutorService executor, int total, int chunkSize, ChunkTask task) throws Exception {
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (int from = 0; from < total; from += chunkSize) {
+			int chunkFrom = from;
+			int chunkTo = Math.min(from + chunkSize, total);
+			SplittableRandom random = new SplittableRandom(seed + chunkFrom);
+
+			futures.add(executor.submit(() -> {
+				task.run(chunkFrom, chunkTo, random);
+				return null;
+			}));
+		}
+
+		for (Future<?> future : futures) {
+			future.get(); // 실패한 청크가 있으면 예외
+		}
+	}
+
+	private void saveMembers(long firstMemberId, String password, int from, int to) {
+		LocalDateTime now = LocalDateTime.now();
+
+		List<Object[]> rows = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			long memberId = firstMemberId + i;
+			rows.add(new Object[] {memberId, "user" + memberId, password, "USER" + memberId, "NICKNAME" + memberId,
+					20 + (int) (memberId % 40), Role.USER.name(), now, now});
+		}
+
+		transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(MEMBER_SQL, rows));
+		memberRows.addAndGet(rows.size());
+	}
+
+	/**
+	 * 게시글 postCount 개와 그 댓글, 대댓글을 만들어서 트랜잭션 1번으로 저장
+	 * 댓글/대댓글 수를 먼저 정하고 필요한 만큼 id를 한 번에 예약
+	 */
+	private void savePosts(int postCount, long firstMemberId, Zipf writers, Zipf words, SplittableRandom random) {
+		int[] commentCounts = new int[postCount];
+		int[][] replyCounts = new int[postCount][];
+		int totalComments = 0;
+
+		for (int p = 0; p < postCount; p++) {
+			commentCounts[p] = Math.min(exponential(commentsPerPost, random), maxCommentsPerPost);
+			replyCounts[p] = new int[commentCounts[p]];
+			for (int c = 0; c < commentCounts[p]; c++) {
+				replyCounts[p][c] = exponential(repliesPerComment, random);
+				totalComments += 1 + replyCounts[p][c];
 			}
-			
-			commentRepository.findAll().stream().forEach(comment -> {
-				
-				for (int i=1; i<=50; i++) {
-					Comment recomment = Comment.builder()
-							.content("대댓글" + i)
-							.build();
-					recomment.confirmWriter(memberRepository.findById((long) (i % 3 + 1)).orElse(null));
-					
-					recomment.confirmPost(comment.getPost());
-					recomment.confirmParent(comment);
-					
-					commentRepository.save(recomment);
+		}
+
+		long postId = reserveIds(IdSequence.POST, postCount);
+		long commentId = totalComments > 0 ? reserveIds(IdSequence.COMMENT, totalComments) : 0;
+
+		List<Object[]> postList = new ArrayList<>(postCount);
+		List<Object[]> commentList = new ArrayList<>();
+		List<Object[]> replyList = new ArrayList<>();
+
+		for (int p = 0; p < postCount; p++, postId++) {
+			LocalDateTime postCreated = LocalDateTime.now().minusSeconds(random.nextLong(days * 86_400L));
+			int postComments = commentCounts[p] + Arrays.stream(replyCounts[p]).sum();
+
+			postList.add(new Object[] {postId, firstMemberId + writers.next(random), sentence(5, words, random),
+					sentence(contentWords, words, random), postComments, postCreated, postCreated});
+
+			for (int c = 0; c < commentCounts[p]; c++) {
+				long parentId = commentId++;
+				LocalDateTime commentCreated = postCreated.plusMinutes(c + 1);
+
+				commentList.add(new Object[] {parentId, firstMemberId + writers.next(random), postId, null,
+						sentence(10, words, random), replyCounts[p][c], commentCreated, commentCreated});
+
+				for (int r = 0; r < replyCounts[p][c]; r++) {
+					LocalDateTime replyCreated = commentCreated.plusSeconds(r + 1);
+					replyList.add(new Object[] {commentId++, firstMemberId + writers.next(random), postId, parentId,
+							sentence(10, words, random), 0, replyCreated, replyCreated});
 				}
-				
-			});
+			}
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.batchUpdate(POST_SQL, postList);
+			jdbcTemplate.batchUpdate(COMMENT_SQL, commentList); // 대댓글이 참조하는 댓글 먼저
+			jdbcTemplate.batchUpdate(COMMENT_SQL, replyList);
+		});
+
+		postRows.addAndGet(postList.size());
+		commentRows.addAndGet(commentList.size());
+		replyRows.addAndGet(replyList.size());
+	}
+
+	/**
+	 * 시퀀스 테이블에서 count 개의 id를 예약하고 첫 번째 id를 반환
+	 *
+	 * Hibernate(pooled)는 테이블 값 v를 읽으면 (v - ALLOCATION_SIZE, v] 구간을 사용하므로
+	 * 값을 v + count + ALLOCATION_SIZE 로 올리고 (v, v + count] 를 사용
+	 */
+	private long reserveIds(String sequenceName, long count) {
+		return transactionTemplate.execute(status -> {
+			Long current = jdbcTemplate.queryForObject(
+					"SELECT next_val FROM id_sequence WHERE sequence_name = ? FOR UPDATE", Long.class, sequenceName);
+			jdbcTemplate.update("UPDATE id_sequence SET next_val = ? WHERE sequence_name = ?",
+					current + count + IdSequence.ALLOCATION_SIZE, sequenceName);
+			return current + 1;
+		});
+	}
+
+	private int exponential(double mean, SplittableRandom random) {
+		if (mean <= 0) return 0;
+		return (int) Math.round(-mean * Math.log(1 - random.nextDouble()));
+	}
+
+	private String sentence(int wordCount, Zipf words, SplittableRandom random) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < wordCount; i++) {
+			if (i > 0) sb.append(' ');
+			sb.append(WORDS[words.next(random)]);
+		}
+		return sb.toString();
+	}
+
+	private void report(String name, long rows, long startNanos) {
+		double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+		log.info("[{}] {}행, {}초, 초당 {}행", name, String.format("%,d", rows), String.format("%.1f", seconds),
+				String.format("%,d", (long) (rows / Math.max(seconds, 0.001))));
+	}
+
+	@FunctionalInterface
+	private interface ChunkTask {
+		void run(int from, int to, SplittableRandom random);
+	}
+
+	/**
+	 * [0, n) 에서 k가 뽑힐 확률이 1 / (k + 1)^s 에 비례하는 Zipf 분포 (누적 분포 + 이분 탐색)
+	 */
+	private static class Zipf {
+		private final double[] cumulative;
+
+		Zipf(int n, double s) {
+			cumulative = new double[n];
+			double sum = 0;
+			for (int k = 0; k < n; k++) {
+				sum += 1 / Math.pow(k + 1, s);
+				cumulative[k] = sum;
+			}
+		}
+
+		int next(SplittableRandom random) {
+			double target = random.nextDouble() * cumulative[cumulative.length - 1];
+			int index = Arrays.binarySearch(cumulative, target);
+			return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
 		}
 	}
 }
-*/
\ No newline at end of file
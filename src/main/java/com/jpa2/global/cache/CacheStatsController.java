@@ -0,0 +1,29 @@
+package com.jpa2.global.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+	private final List<MonitoredCache> caches;
+	
+	/**
+	 * 로컬 캐시별 hit/miss/eviction 통계 조회 (캐시 크기 조정용)
+	 */
+	@GetMapping("/cache/stats")
+	public ResponseEntity<Map<String, CacheStatsDto>> getStats() {
+		Map<String, CacheStatsDto> stats = new LinkedHashMap<>();
+		caches.forEach(cache -> stats.put(cache.getCacheName(), cache.getStats()));
+		
+		return ResponseEntity.ok(stats);
+	}
+}
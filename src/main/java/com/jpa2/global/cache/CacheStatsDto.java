@@ -0,0 +1,14 @@
+package com.jpa2.global.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+public record CacheStatsDto(long size, // 현재 캐시에 들어있는 엔트리 수
+							long hitCount, // 캐시 적중 횟수
+							long missCount, // 캐시 미적중 횟수 (DB 조회 발생)
+							long evictionCount, // 크기 제한/만료로 제거된 횟수
+							double hitRate) {
+	
+	public static CacheStatsDto of(long size, CacheStats stats) {
+		return new CacheStatsDto(size, stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.hitRate());
+	}
+}
@@ -0,0 +1,12 @@
+package com.jpa2.global.cache;
+
+/**
+ * 적중률 등의 통계를 조회할 수 있는 로컬 캐시
+ * 구현한 빈은 CacheStatsController를 통해 한 번에 조회됨
+ */
+public interface MonitoredCache {
+
+	String getCacheName();
+	
+	CacheStatsDto getStats();
+}
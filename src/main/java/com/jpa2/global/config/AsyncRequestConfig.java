@@ -0,0 +1,27 @@
+package com.jpa2.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 비동기 요청(StreamingResponseBody 등)의 타임아웃
+ * 
+ * 설정하지 않으면 컨테이너 기본값(Tomcat 30초)이 적용되어, 게시글 내보내기(GET /post/export)처럼
+ * 응답을 오래 쓰는 요청이 중간에 AsyncRequestTimeoutException으로 끊김 (NDJSON 본문이 잘린 채로 끝남)
+ * 현재 비동기 요청은 내보내기뿐이므로 내보내기에 맞춘 값을 전체 기본값으로 사용
+ */
+@Configuration
+public class AsyncRequestConfig implements WebMvcConfigurer {
+
+	@Value("${post.export.timeout-ms:1800000}")
+	private long asyncRequestTimeoutMillis; // 기본 30분, 0 이하이면 컨테이너 기본값
+	
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		if (asyncRequestTimeoutMillis > 0) {
+			configurer.setDefaultTimeout(asyncRequestTimeoutMillis);
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.jpa2.global.config;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.jpa2.domain.IdSequence;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시퀀스 테이블(ID_SEQUENCE)의 값이 기존 행의 id보다 작지 않도록 맞춤
+ * 
+ * IDENTITY(AUTO_INCREMENT)로 저장된 행이 이미 있는 DB에서 시퀀스 테이블을 처음 사용하면
+ * 1부터 id를 발급해서 기존 행과 충돌하므로, 시작 시 MAX(id) 이후부터 발급되도록 설정
+ * (이미 더 큰 값이면 그대로 둠)
+ * 
+ * pooled 방식은 테이블 값 v를 읽으면 (v - ALLOCATION_SIZE, v] 구간의 id를 사용하므로 MAX(id) + ALLOCATION_SIZE + 1 로 설정
+ * 스키마가 만들어진 뒤 실행되도록 entityManagerFactory 이후에 초기화
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+	private static final String SEED_SQL = """
+			INSERT INTO id_sequence (sequence_name, next_val)
+			SELECT ?, COALESCE(MAX(%s), 0) + ? FROM %s
+			ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))
+			""";
+	
+	private final JdbcTemplate jdbcTemplate;
+	
+	@PostConstruct
+	public void init() {
+		seed(IdSequence.MEMBER, "member", "member_id");
+		seed(IdSequence.POST, "post", "post_id");
+		seed(IdSequence.COMMENT, "comment", "comment_id");
+		seed(IdSequence.REFRESH_TOKEN, "refresh_token", "refresh_token_id");
+		seed(IdSequence.REVOKED_ACCESS_TOKEN, "revoked_access_token", "revoked_access_token_id");
+	}
+	
+	private void seed(String sequenceName, String table, String idColumn) {
+		jdbcTemplate.update(SEED_SQL.formatted(idColumn, table), sequenceName, IdSequence.ALLOCATION_SIZE + 1);
+	}
+}
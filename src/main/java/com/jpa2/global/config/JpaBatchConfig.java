@@ -0,0 +1,29 @@
+package com.jpa2.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정
+ * 
+ * flush 시 같은 테이블에 대한 INSERT/UPDATE를 정렬해서 batchSize 개씩 묶어 실행
+ * (정렬하지 않으면 Post, Comment INSERT가 번갈아 나올 때마다 배치가 끊김)
+ * 
+ * application.yml에 spring.jpa.properties.hibernate.* 로 직접 지정한 값이 있으면 그 값을 사용
+ */
+@Configuration
+public class JpaBatchConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc.batch-size:100}") int batchSize) {
+		return properties -> {
+			properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+			properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+			properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+			properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+		};
+	}
+}
@@ -0,0 +1,25 @@
+package com.jpa2.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * multipart 요청을 핸들러에서 처음 사용할 때 처리 (resolveLazily)
+ * 
+ * 기본 설정은 DispatcherServlet이 핸들러를 찾기 전에 모든 multipart 요청의 파트를 임시 파일/메모리에 저장함
+ * -> 요청 스트림을 직접 읽는 업로드(MultipartUploadReader)가 빈 스트림을 받게 되므로 지연 처리로 변경
+ * MultipartFile, @RequestParam 등을 사용하는 기존 핸들러는 바인딩 시점에 처리되어 동작이 같음
+ */
+@Configuration
+public class MultipartConfig {
+
+	@Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+	public StandardServletMultipartResolver multipartResolver() {
+		StandardServletMultipartResolver multipartResolver = new StandardServletMultipartResolver();
+		multipartResolver.setResolveLazily(true);
+		
+		return multipartResolver;
+	}
+}
@@ -1,5 +1,6 @@
 package com.jpa2.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -8,19 +9,24 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jpa2.domain.member.cache.MemberPrincipalCache;
 import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.member.token.RefreshTokenStore;
 import com.jpa2.domain.member.serivce.LoginService;
 import com.jpa2.global.jwt.filter.JwtAuthenticationProcessingFilter;
+import com.jpa2.global.jwt.revocation.AccessTokenRevocations;
+import com.jpa2.global.jwt.revocation.MemberVersionRevocations;
 import com.jpa2.global.jwt.service.JwtService;
 import com.jpa2.global.login.filter.JsonUsernamePasswordAuthenticationFilter;
 import com.jpa2.global.login.handler.LoginFailureHandler;
 import com.jpa2.global.login.handler.LoginSuccessJWTProvideHandler;
+import com.jpa2.global.login.limit.LoginRateLimiter;
+import com.jpa2.global.password.BoundedPasswordEncoder;
+import com.jpa2.global.password.PasswordEncoders;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,6 +39,23 @@ public class SecurityConfig {
 	private final ObjectMapper objectMapper;
 	private final MemberRepository memberRepository;
 	private final JwtService jwtService;
+	private final MemberPrincipalCache memberPrincipalCache;
+	private final MemberVersionRevocations memberVersionRevocations;
+	private final AccessTokenRevocations accessTokenRevocations;
+	private final RefreshTokenStore refreshTokenStore;
+	private final LoginRateLimiter loginRateLimiter;
+	
+	@Value("${jwt.access.stateless:false}")
+	private boolean statelessAccessToken; // AccessToken의 클레임만으로 인증할지
+	
+	@Value("${password.hashing.algorithm:bcrypt}")
+	private String hashingAlgorithm; // 새 비밀번호를 해시하는 방식 (bcrypt, pbkdf2@SpringSecurity_v5_8)
+	@Value("${password.hashing.bcrypt-strength:10}")
+	private int bcryptStrength; // bcrypt cost, 1 늘 때마다 해시 시간이 2배
+	@Value("${password.hashing.threads:0}")
+	private int hashingThreads; // 동시에 계산하는 해시 수, 0이면 CPU 코어 수
+	@Value("${password.hashing.queue-capacity:64}")
+	private int hashingQueueCapacity; // 넘으면 바로 503
 
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -52,24 +75,27 @@ public class SecurityConfig {
 		return http.build();
 	}
 	
-	// 패스워드 암호화
-	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+	// 패스워드 암호화 (해시 계산은 요청 스레드가 아닌 전용 스레드 풀에서, 방식과 cost는 설정값으로)
+	@Bean(destroyMethod = "shutdown")
+	public BoundedPasswordEncoder passwordEncoder() {
+		int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+		
+		return new BoundedPasswordEncoder(PasswordEncoders.create(hashingAlgorithm, bcryptStrength), threads, hashingQueueCapacity);
 	}
 	
 	@Bean
 	public AuthenticationManager authenticationManager() {
 		DaoAuthenticationProvider provider = new DaoAuthenticationProvider(); // FormLogin과 동일하게 DaoAuthenticationProvider 사용
-		provider.setPasswordEncoder(passwordEncoder()); // passwordEncoder로는 PasswordEncoderFactories.createDelegatingPasswordEncoder() 사용
+		provider.setPasswordEncoder(passwordEncoder()); // passwordEncoder로는 PasswordEncoders.create()로 만든 DelegatingPasswordEncoder 사용
 		provider.setUserDetailsService(loginService);
+		provider.setUserDetailsPasswordService(loginService); // 로그인 성공 시 해시 방식/cost가 설정과 다르면 다시 해시하여 저장
 		
 		return new ProviderManager(provider);
 	}
 	
 	@Bean
 	public LoginSuccessJWTProvideHandler loginSuccessJWTProvideHandler() {
-		return new LoginSuccessJWTProvideHandler(jwtService, memberRepository);
+		return new LoginSuccessJWTProvideHandler(jwtService, refreshTokenStore);
 	}
 	
 	@Bean
@@ -83,7 +109,7 @@ public class SecurityConfig {
 	 */
 	@Bean
 	public JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordAuthenticationFilter() {
-		JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordLoginFilter = new JsonUsernamePasswordAuthenticationFilter(objectMapper);
+		JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordLoginFilter = new JsonUsernamePasswordAuthenticationFilter(objectMapper, loginRateLimiter);
 		
         jsonUsernamePasswordLoginFilter.setAuthenticationManager(authenticationManager());
         jsonUsernamePasswordLoginFilter.setAuthenticationSuccessHandler(loginSuccessJWTProvideHandler());
@@ -94,7 +120,8 @@ public class SecurityConfig {
 	
 	@Bean
 	public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter() {
-		JwtAuthenticationProcessingFilter jsonusernamePasswordLoginFilter = new JwtAuthenticationProcessingFilter(jwtService, memberRepository);
+		JwtAuthenticationProcessingFilter jsonusernamePasswordLoginFilter = new JwtAuthenticationProcessingFilter(jwtService, memberRepository, refreshTokenStore, memberPrincipalCache,
+				memberVersionRevocations, accessTokenRevocations, statelessAccessToken);
 		
 		return jsonusernamePasswordLoginFilter;
 	}
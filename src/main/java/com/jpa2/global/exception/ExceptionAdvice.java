@@ -8,6 +8,7 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import jakarta.validation.ConstraintViolationException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
@@ -45,6 +46,14 @@ public class ExceptionAdvice {
 		return new ResponseEntity<ExceptionDto>(new ExceptionDto(2000), HttpStatus.BAD_REQUEST);
 	}
 	
+	// @Validated 컨트롤러의 파라미터(@RequestParam, @PathVariable 등) 검증 실패
+	@ExceptionHandler(ConstraintViolationException.class)
+	public ResponseEntity<ExceptionDto> handleConstraintViolationEx(ConstraintViolationException exception) {
+		log.error("ConstraintViolationException 발생! {}", exception.getMessage());
+		
+		return new ResponseEntity<ExceptionDto>(new ExceptionDto(2000), HttpStatus.BAD_REQUEST);
+	}
+	
 	// HttpMessageNotReadableException => json 파싱 오류
 	@ExceptionHandler(HttpMessageNotReadableException.class)
 	public ResponseEntity<ExceptionDto> httpMessageNotReadableExceptionEx(HttpMessageNotReadableException exception) {
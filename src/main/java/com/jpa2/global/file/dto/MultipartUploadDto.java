@@ -0,0 +1,12 @@
+package com.jpa2.global.file.dto;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * MultipartUploadReader로 읽은 multipart/form-data 요청
+ * @param fields 텍스트 파트 (이름 -> 값)
+ * @param file 이미 최종 경로에 저장된 파일 (파일 파트가 없으면 empty)
+ */
+public record MultipartUploadDto(Map<String, String> fields, Optional<StoredFileDto> file) {
+}
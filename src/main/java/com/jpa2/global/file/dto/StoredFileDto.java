@@ -0,0 +1,8 @@
+package com.jpa2.global.file.dto;
+
+/**
+ * 스트리밍으로 저장한 파일 정보 (FileService.save(InputStream, long))
+ * @param checksum 파일 내용의 SHA-256 (16진수 64자)
+ */
+public record StoredFileDto(String filePath, long size, String checksum) {
+}
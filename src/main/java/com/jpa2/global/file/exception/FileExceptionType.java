@@ -7,7 +7,9 @@ import com.jpa2.global.exception.BaseExceptionType;
 public enum FileExceptionType implements BaseExceptionType {
 
 	FILE_CAN_NOT_SAVE(10000, HttpStatus.BAD_REQUEST, "파일 저장에 실패했습니다."),
-	FILE_CAN_NOT_DELETE(10001, HttpStatus.BAD_REQUEST, "파일 삭제에 실패했습니다.");
+	FILE_CAN_NOT_DELETE(10001, HttpStatus.BAD_REQUEST, "파일 삭제에 실패했습니다."),
+	FILE_TOO_LARGE(10002, HttpStatus.PAYLOAD_TOO_LARGE, "파일 크기가 너무 큽니다."),
+	INVALID_MULTIPART(10003, HttpStatus.BAD_REQUEST, "잘못된 파일 업로드 요청입니다.");
 	
 	private int errorCode;
 	private HttpStatus httpStatus;
@@ -1,13 +1,20 @@
 package com.jpa2.global.file.service;
 
+import java.io.InputStream;
+
 import javax.annotation.processing.FilerException;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import com.jpa2.global.file.dto.StoredFileDto;
+
 public interface FileService {
 
 	// 저장된 파일 경로 반환
 	String save(MultipartFile multipartFile) throws FilerException;
 	
+	// 스트림을 읽으면서 바로 저장, maxSize를 넘으면 저장한 부분을 지우고 FILE_TOO_LARGE
+	StoredFileDto save(InputStream inputStream, long maxSize);
+	
 	void delete(String filePath);
 }
\ No newline at end of file
@@ -2,18 +2,29 @@ package com.jpa2.global.file.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.jpa2.global.file.dto.StoredFileDto;
 import com.jpa2.global.file.exception.FileException;
 import com.jpa2.global.file.exception.FileExceptionType;
 
 @Service
 public class FileServiceImpl implements FileService {
 
+	private static final int BUFFER_SIZE = 64 * 1024;
+
 	@Value("${file.dir}") // application.yml 파일에 있는 file.dir의 내용을 가져옴
 	private String fileDir; // 파일 저장 경로
 
@@ -30,6 +41,41 @@ public class FileServiceImpl implements FileService {
 		
 		return filePath; // 경로 반환
 	}
+	
+	/**
+	 * 요청 본문 등의 스트림을 FileChannel로 최종 경로에 바로 기록 (임시 파일, 메모리에 따로 모으지 않음)
+	 * 읽는 동안 크기를 검사하고, 같은 버퍼로 SHA-256도 함께 계산
+	 * 스트림을 읽다가 실패하면(연결 끊김, 본문이 중간에 끝남) INVALID_MULTIPART, 파일 쓰기에 실패하면 FILE_CAN_NOT_SAVE
+	 */
+	@Override
+	public StoredFileDto save(InputStream inputStream, long maxSize) {
+		String filePath = fileDir + UUID.randomUUID(); // 파일 이름 겹치지 않게 저장
+		MessageDigest digest = sha256();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		long size = 0;
+		
+		try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+			int read;
+			while ((read = read(inputStream, buffer)) != -1) {
+				size += read;
+				if (size > maxSize) throw new FileException(FileExceptionType.FILE_TOO_LARGE);
+				
+				digest.update(buffer, 0, read);
+				ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+				while (byteBuffer.hasRemaining()) {
+					channel.write(byteBuffer);
+				}
+			}
+		} catch (IOException e) {
+			new File(filePath).delete(); // 중간까지 쓴 파일
+			throw new FileException(FileExceptionType.FILE_CAN_NOT_SAVE);
+		} catch (FileException e) {
+			new File(filePath).delete();
+			throw e;
+		}
+		
+		return new StoredFileDto(filePath, size, HexFormat.of().formatHex(digest.digest()));
+	}
 
 	@Override
 	public void delete(String filePath) {
@@ -40,5 +86,21 @@ public class FileServiceImpl implements FileService {
 		if (!file.delete()) throw new FileException(FileExceptionType.FILE_CAN_NOT_DELETE);
 	}
 	
+	private static int read(InputStream inputStream, byte[] buffer) {
+		try {
+			return inputStream.read(buffer);
+		} catch (IOException e) { // 클라이언트 요청 문제 -> 저장 실패로 보지 않음
+			throw new FileException(FileExceptionType.INVALID_MULTIPART);
+		}
+	}
+	
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) { // 모든 JVM이 SHA-256을 지원해야 함
+			throw new IllegalStateException(e);
+		}
+	}
+	
 	
 }
\ No newline at end of file
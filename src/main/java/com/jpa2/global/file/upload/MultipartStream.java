@@ -0,0 +1,218 @@
+package com.jpa2.global.file.upload;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * multipart/form-data 요청 본문을 앞에서부터 한 번만 읽으며 파트 단위로 나누는 파서
+ * 
+ * 서블릿 컨테이너의 파트 처리(request.getParts())는 본문 전체를 임시 파일/메모리에 먼저 저장하지만,
+ * 여기서는 고정 크기 버퍼 하나로 경계(boundary)를 찾으면서 파트의 내용을 바로 InputStream으로 넘겨줌
+ * -> 파일 크기와 상관없이 메모리 사용량이 일정하고, 파일 내용을 한 번만 씀
+ * 
+ * 사용법: nextPart()로 파트를 받고 content()를 읽음 (다 읽지 않고 nextPart()를 호출하면 나머지는 버림)
+ */
+public class MultipartStream {
+
+	private static final int BUFFER_SIZE = 16 * 1024;
+	private static final int MAX_HEADER_SIZE = 8 * 1024; // 파트 하나의 헤더 전체 크기 제한
+	private static final Pattern BOUNDARY = Pattern.compile("(?i)boundary=(?:\"([^\"]+)\"|([^;\\s]+))");
+	private static final Pattern NAME = Pattern.compile("(?i)(?:^|;)\\s*name=\"([^\"]*)\"");
+	private static final Pattern FILENAME = Pattern.compile("(?i)(?:^|;)\\s*filename=\"([^\"]*)\"");
+	
+	private final InputStream in;
+	private final byte[] delimiter; // CRLF--boundary
+	private final byte[] buf = new byte[BUFFER_SIZE];
+	private int head; // 아직 읽지 않은 첫 위치
+	private int tail; // 버퍼에 채워진 끝 위치
+	
+	private PartInputStream current; // 현재 파트 (처음에는 첫 경계 앞의 preamble)
+	private boolean finished;
+	
+	public MultipartStream(InputStream in, String boundary) {
+		this.in = in;
+		this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+		if (delimiter.length * 2 > BUFFER_SIZE) throw new IllegalArgumentException("boundary가 너무 깁니다.");
+		
+		// 본문은 "--boundary"로 시작하므로 앞에 CRLF가 있는 것처럼 두어 모든 경계를 같은 방식으로 찾음
+		buf[tail++] = '\r';
+		buf[tail++] = '\n';
+		this.current = new PartInputStream();
+	}
+	
+	/**
+	 * Content-Type 헤더에서 boundary 추출
+	 */
+	public static Optional<String> boundaryOf(String contentType) {
+		if (contentType == null) return Optional.empty();
+		
+		Matcher matcher = BOUNDARY.matcher(contentType);
+		if (!matcher.find()) return Optional.empty();
+		
+		return Optional.of(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+	}
+	
+	/**
+	 * @return 다음 파트, 더 이상 없으면 null
+	 */
+	public Part nextPart() throws IOException {
+		if (finished) return null;
+		
+		current.skipRemaining(); // 이전 파트에서 읽지 않은 나머지를 버림 -> head가 경계를 가리킴
+		head += delimiter.length;
+		
+		int first = readByte();
+		int second = readByte();
+		if (first == '-' && second == '-') { // 마지막 경계
+			finished = true;
+			return null;
+		}
+		if (first != '\r' || second != '\n') {
+			throw new MultipartException("잘못된 multipart 경계입니다.");
+		}
+		
+		String name = null, filename = null, contentType = null;
+		int headerSize = 0;
+		String line;
+		while (!(line = readLine()).isEmpty()) {
+			headerSize += line.length() + 2;
+			if (headerSize > MAX_HEADER_SIZE) throw new MultipartException("multipart 헤더가 너무 큽니다.");
+			
+			int colon = line.indexOf(':');
+			if (colon < 0) continue;
+			
+			String headerName = line.substring(0, colon).trim();
+			String headerValue = line.substring(colon + 1).trim();
+			if (headerName.equalsIgnoreCase("Content-Disposition")) {
+				name = group(NAME, headerValue);
+				filename = group(FILENAME, headerValue);
+			} else if (headerName.equalsIgnoreCase("Content-Type")) {
+				contentType = headerValue;
+			}
+		}
+		
+		current = new PartInputStream();
+		return new Part(name, filename, contentType, current);
+	}
+	
+	/**
+	 * @param filename 파일 파트인 경우에만 존재
+	 * @param content 이 파트의 내용만 읽는 스트림 (다음 경계에서 끝남)
+	 */
+	public record Part(String name, String filename, String contentType, InputStream content) {
+		
+		public boolean isFile() {
+			return filename != null;
+		}
+	}
+	
+	/**
+	 * 형식이 잘못된 multipart 본문
+	 */
+	public static class MultipartException extends IOException {
+		
+		public MultipartException(String message) {
+			super(message);
+		}
+	}
+	
+	private static String group(Pattern pattern, String value) {
+		Matcher matcher = pattern.matcher(value);
+		return matcher.find() ? matcher.group(1) : null;
+	}
+	
+	// CRLF로 끝나는 헤더 한 줄 (CRLF 제외)
+	private String readLine() throws IOException {
+		StringBuilder line = new StringBuilder();
+		while (true) {
+			int b = readByte();
+			if (b == '\r') {
+				if (readByte() != '\n') throw new MultipartException("잘못된 multipart 헤더입니다.");
+				return line.toString();
+			}
+			if (line.length() >= MAX_HEADER_SIZE) throw new MultipartException("multipart 헤더가 너무 큽니다.");
+			line.append((char) b); // 헤더는 ASCII (파일 이름은 ISO-8859-1로 그대로 보존)
+		}
+	}
+	
+	private int readByte() throws IOException {
+		if (head == tail && fill() == -1) throw new EOFException("multipart 본문이 끝나지 않았습니다.");
+		
+		return buf[head++] & 0xff;
+	}
+	
+	// 읽지 않은 부분을 버퍼 앞으로 옮기고 한 번 더 읽음
+	private int fill() throws IOException {
+		if (head > 0) {
+			System.arraycopy(buf, head, buf, 0, tail - head);
+			tail -= head;
+			head = 0;
+		}
+		
+		int read = in.read(buf, tail, buf.length - tail);
+		if (read > 0) tail += read;
+		return read;
+	}
+	
+	private int indexOfDelimiter() {
+		int last = tail - delimiter.length;
+		outer:
+		for (int i = head; i <= last; i++) {
+			for (int j = 0; j < delimiter.length; j++) {
+				if (buf[i + j] != delimiter[j]) continue outer;
+			}
+			return i;
+		}
+		return -1;
+	}
+	
+	/**
+	 * 현재 파트의 내용 (다음 경계 직전까지)
+	 * 경계가 버퍼 끝에 걸쳐 있을 수 있으므로, 경계를 찾지 못하면 마지막 delimiter.length - 1 바이트는 남겨 둠
+	 */
+	private class PartInputStream extends InputStream {
+		
+		private final byte[] single = new byte[1];
+		private boolean ended;
+		
+		@Override
+		public int read() throws IOException {
+			return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (ended || current != this) return -1;
+			if (len == 0) return 0;
+			
+			while (true) {
+				int index = indexOfDelimiter();
+				int available = index >= 0 ? index - head : tail - head - (delimiter.length - 1);
+				
+				if (index == head) { // 경계에 도달
+					ended = true;
+					return -1;
+				}
+				if (available > 0) {
+					int n = Math.min(available, len);
+					System.arraycopy(buf, head, b, off, n);
+					head += n;
+					return n;
+				}
+				if (fill() == -1) throw new EOFException("multipart 본문이 끝나지 않았습니다.");
+			}
+		}
+		
+		private void skipRemaining() throws IOException {
+			byte[] skip = new byte[BUFFER_SIZE];
+			while (read(skip, 0, skip.length) != -1) {
+				// 버림
+			}
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package com.jpa2.global.file.upload;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jpa2.global.file.dto.MultipartUploadDto;
+import com.jpa2.global.file.dto.StoredFileDto;
+import com.jpa2.global.file.exception.FileException;
+import com.jpa2.global.file.exception.FileExceptionType;
+import com.jpa2.global.file.service.FileService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * multipart/form-data 요청 본문을 MultipartStream으로 직접 읽어, 파일 파트는 FileService로 바로 저장
+ * 
+ * MultipartFile(transferTo)은 컨테이너가 본문 전체를 임시 파일/메모리에 저장한 뒤 다시 복사하지만,
+ * 여기서는 요청 스트림에서 최종 경로로 한 번만 씀 (크기 제한, 체크섬도 같은 과정에서)
+ * 
+ * 컨트롤러에서 HttpServletRequest를 받아 호출하며, 이 경로의 요청은 컨테이너가 미리 파트를 처리하지 않아야 함 (MultipartConfig)
+ * 저장 이후 처리에 실패하면 discard()로 파일을 지워야 함
+ * 
+ * 본문 전체 크기도 제한 (건너뛰는 파트, 경계, 헤더 포함) -> 파일 크기 제한만으로는 필요 없는 파트를 끝없이 보내는 요청을 막을 수 없음
+ */
+@Component
+public class MultipartUploadReader {
+
+	private static final int MAX_FIELD_SIZE = 64 * 1024; // 텍스트 파트 하나의 최대 크기
+	private static final int MAX_FIELDS = 16;
+	private static final int MAX_OVERHEAD = 64 * 1024; // 경계, 파트 헤더, 건너뛰는 파트에 허용하는 크기
+	
+	private final FileService fileService;
+	private final long maxFileSize;
+	private final long maxRequestSize;
+	
+	public MultipartUploadReader(FileService fileService,
+								 @Value("${file.upload.max-size:10485760}") long maxFileSize) {
+		this.fileService = fileService;
+		this.maxFileSize = maxFileSize;
+		this.maxRequestSize = maxFileSize + (long) MAX_FIELDS * MAX_FIELD_SIZE + MAX_OVERHEAD;
+	}
+	
+	/**
+	 * @param fileFieldName 저장할 파일 파트 이름 (하나만 허용)
+	 */
+	public MultipartUploadDto read(HttpServletRequest request, String fileFieldName) {
+		String boundary = MultipartStream.boundaryOf(request.getContentType())
+				.orElseThrow(() -> new FileException(FileExceptionType.INVALID_MULTIPART));
+		if (request.getContentLengthLong() > maxRequestSize) throw new FileException(FileExceptionType.FILE_TOO_LARGE);
+		
+		Map<String, String> fields = new HashMap<>();
+		StoredFileDto storedFile = null;
+		try {
+			MultipartStream multipartStream = new MultipartStream(new LimitedInputStream(request.getInputStream(), maxRequestSize), boundary);
+			
+			MultipartStream.Part part;
+			while ((part = multipartStream.nextPart()) != null) {
+				if (part.name() == null) continue;
+				
+				if (part.isFile()) {
+					if (!part.name().equals(fileFieldName) || storedFile != null) throw new FileException(FileExceptionType.INVALID_MULTIPART);
+					if (part.filename().isEmpty()) continue; // 파일을 선택하지 않으면 빈 파일 파트가 옴
+					
+					storedFile = fileService.save(part.content(), maxFileSize);
+				} else {
+					if (fields.size() >= MAX_FIELDS) throw new FileException(FileExceptionType.INVALID_MULTIPART);
+					
+					if (fields.putIfAbsent(part.name(), readField(part.content())) != null) { // 같은 이름의 필드는 한 번만
+						throw new FileException(FileExceptionType.INVALID_MULTIPART);
+					}
+				}
+			}
+		} catch (IOException e) { // 형식 오류, 연결 끊김
+			discard(storedFile);
+			throw new FileException(FileExceptionType.INVALID_MULTIPART);
+		} catch (RuntimeException e) {
+			discard(storedFile);
+			throw e;
+		}
+		
+		return new MultipartUploadDto(fields, Optional.ofNullable(storedFile));
+	}
+	
+	public void discard(MultipartUploadDto upload) {
+		upload.file().ifPresent(this::discard);
+	}
+	
+	private void discard(StoredFileDto storedFile) {
+		if (storedFile != null) fileService.delete(storedFile.filePath());
+	}
+	
+	private String readField(InputStream content) throws IOException {
+		byte[] value = content.readNBytes(MAX_FIELD_SIZE + 1);
+		if (value.length > MAX_FIELD_SIZE) throw new FileException(FileExceptionType.INVALID_MULTIPART);
+		
+		return new String(value, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * 읽은 바이트 수가 limit을 넘으면 FILE_TOO_LARGE (Content-Length가 없는 chunked 요청도 제한)
+	 */
+	private static class LimitedInputStream extends FilterInputStream {
+		
+		private final long limit;
+		private long count;
+		
+		LimitedInputStream(InputStream in, long limit) {
+			super(in);
+			this.limit = limit;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) count(1);
+			return b;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) count(read);
+			return read;
+		}
+		
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count(skipped);
+			return skipped;
+		}
+		
+		private void count(long read) {
+			count += read;
+			if (count > limit) throw new FileException(FileExceptionType.FILE_TOO_LARGE);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.jpa2.global.jwt.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jpa2.global.cache.CacheStatsDto;
+import com.jpa2.global.cache.MonitoredCache;
+import com.jpa2.global.jwt.service.VerifiedToken;
+import com.jpa2.global.util.security.TokenHashUtil;
+
+/**
+ * 최근에 검증한 토큰 캐시, 같은 토큰으로 여러 번 요청해도 서명 검증/디코딩은 한 번만 일어남
+ * 
+ * 키: 토큰의 SHA-256 (토큰 문자열 전체를 보관하지 않음)
+ * 엔트리는 토큰의 만료 시각까지만 유지 -> 캐시 때문에 만료된 토큰이 통과하는 일은 없음
+ * 검증에 실패한 토큰은 캐시하지 않음
+ * jwt.verified-cache.max-size=0 이면 캐시하지 않고 매번 검증
+ */
+@Component
+public class VerifiedTokenCache implements MonitoredCache {
+
+	private final Cache<String, VerifiedToken> cache;
+	private final boolean enabled;
+	
+	public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") long maxSize) {
+		this.enabled = maxSize > 0;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfter(new UntilTokenExpires())
+				.recordStats()
+				.build();
+	}
+	
+	/**
+	 * @param verifier 캐시에 없을 때 실제로 검증하는 함수 (실패 시 empty)
+	 */
+	public Optional<VerifiedToken> get(String token, Function<String, Optional<VerifiedToken>> verifier) {
+		if (!enabled) return verifier.apply(token);
+		
+		String key = TokenHashUtil.sha256(token);
+		
+		VerifiedToken cached = cache.getIfPresent(key);
+		if (cached != null) return Optional.of(cached);
+		
+		Optional<VerifiedToken> verified = verifier.apply(token);
+		verified.ifPresent(verifiedToken -> cache.put(key, verifiedToken));
+		return verified;
+	}
+	
+	public void invalidate(String token) {
+		cache.invalidate(TokenHashUtil.sha256(token));
+	}
+	
+	@Override
+	public String getCacheName() {
+		return "verifiedToken";
+	}
+	
+	@Override
+	public CacheStatsDto getStats() {
+		return CacheStatsDto.of(cache.estimatedSize(), cache.stats());
+	}
+	
+	private static class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+		
+		@Override
+		public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+			return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+		}
+		
+		@Override
+		public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+		
+		@Override
+		public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -1,20 +1,26 @@
 package com.jpa2.global.jwt.filter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
 import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.cache.MemberPrincipal;
+import com.jpa2.domain.member.cache.MemberPrincipalCache;
 import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.member.token.RefreshTokenStore;
+import com.jpa2.global.jwt.revocation.AccessTokenRevocations;
+import com.jpa2.global.jwt.revocation.MemberVersionRevocations;
 import com.jpa2.global.jwt.service.JwtService;
+import com.jpa2.global.jwt.service.VerifiedToken;
+import com.jpa2.global.util.security.LoginMember;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -27,6 +33,11 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 	
 	private final JwtService jwtService;
 	private final MemberRepository memberRepository;
+	private final RefreshTokenStore refreshTokenStore;
+	private final MemberPrincipalCache memberPrincipalCache;
+	private final MemberVersionRevocations memberVersionRevocations;
+	private final AccessTokenRevocations accessTokenRevocations;
+	private final boolean statelessAccessToken; // true면 AccessToken의 클레임만으로 인증 (jwt.access.stateless)
 	
 	private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 	
@@ -49,7 +60,7 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 		
 		String refreshToken = jwtService
 				.extractRefreshToken(request)
-				.filter(jwtService::isTokenValid) // 유효성 검사
+				.filter(token -> jwtService.verify(token).isPresent()) // 유효성 검사
 				.orElse(null); // RefreshToken이 없거나 유효하지 않다면 null 반환
 		
 		if(refreshToken != null) {
@@ -64,29 +75,36 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 	private void checkAccessTokenAndAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
 		
-		jwtService.extractAccessToken(request).filter(jwtService::isTokenValid).ifPresent( // 유효성 검사
-				
-				accessToken -> jwtService.extractUsername(accessToken).ifPresent( // username 추출
-				
-						username -> memberRepository.findByUsername(username).ifPresent( // 유저 조회
-						
-								this::saveAuthentication // 인증 정보 저장
-						)
-				)
-		);
+		jwtService.extractAccessToken(request)
+				.flatMap(jwtService::verify) // 유효성 검사 + username 추출을 한 번에
+				.filter(token -> !accessTokenRevocations.isRevoked(token.tokenId())) // 로그아웃한 토큰 (메모리에서만 확인)
+				.ifPresent(token -> resolvePrincipal(token) // 유저 조회
+						.ifPresent(principal -> saveAuthentication(principal, token))); // 인증 정보 저장
 		
 		filterChain.doFilter(request,response);
 	}
 	
-	private void saveAuthentication(Member member) {
-		UserDetails user = User.builder()
-				.username(member.getUsername())
-				.password(member.getPassword())
-				.roles(member.getRole().name())
-				.build();
+	/**
+	 * stateless 모드: 토큰의 권한, 인증 정보 버전 클레임으로 인증 -> DB, 캐시 조회 없음
+	 *   비밀번호 변경, 탈퇴 이전에 발급된 토큰(버전이 낮은 토큰)은 MemberVersionRevocations로 거부
+	 *   클레임이 없는 이전 형식의 토큰은 아래와 같이 처리
+	 * 그 외: username으로 회원 정보 조회 (MemberPrincipalCache, 캐시에 있으면 쿼리 없음)
+	 */
+	private Optional<MemberPrincipal> resolvePrincipal(VerifiedToken token) {
+		if (statelessAccessToken) {
+			Optional<MemberPrincipal> claims = token.toPrincipal();
+			if (claims.isPresent()) {
+				return claims.filter(principal -> !memberVersionRevocations.isRevoked(principal.id(), principal.authVersion()));
+			}
+		}
+		return Optional.ofNullable(token.username()).flatMap(memberPrincipalCache::get);
+	}
 	
-		Authentication authentication = new UsernamePasswordAuthenticationToken(
-				user, null,authoritiesMapper.mapAuthorities(user.getAuthorities()));
+	private void saveAuthentication(MemberPrincipal principal, VerifiedToken token) {
+		UserDetails user = new LoginMember(principal);
+	
+		Authentication authentication = new UsernamePasswordAuthenticationToken( // credentials: 로그아웃 시 폐기할 AccessToken 정보
+				user, token, authoritiesMapper.mapAuthorities(user.getAuthorities()));
 	
 	
 		SecurityContext context = SecurityContextHolder.createEmptyContext();
@@ -95,12 +113,14 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 	}
 
 	private void checkRefreshTokenAndReIssueAccessToken(HttpServletResponse response, String refreshToken) {
-
-
-		memberRepository.findByRefreshToken(refreshToken).ifPresent(
+		
+		refreshTokenStore.findMemberId(refreshToken) // 토큰 해시로 세션 조회 (캐시에 있으면 쿼리 없음)
+				.flatMap(memberRepository::findById)
+				.filter(member -> !member.isWithdrawn())
+				.ifPresent(
 				
-				member -> jwtService.sendAccessToken(response, jwtService.createAccessToken(member.getUsername()))
+						member -> jwtService.sendAccessToken(response, jwtService.createAccessToken(MemberPrincipal.of(member)))
 				
-		);
+				);
 	}
 }
\ No newline at end of file
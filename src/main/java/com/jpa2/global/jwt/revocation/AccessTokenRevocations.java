@@ -0,0 +1,126 @@
+package com.jpa2.global.jwt.revocation;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jpa2.domain.member.repository.RevokedAccessTokenRepository;
+import com.jpa2.domain.member.token.RevokedAccessToken;
+import com.jpa2.global.util.transaction.TransactionUtil;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 전에 폐기된(로그아웃) AccessToken 목록
+ * 
+ * isRevoked는 요청마다 호출되므로 DB를 조회하지 않음
+ *  1. 블룸 필터에 없으면 -> 폐기되지 않은 토큰 (대부분의 요청)
+ *  2. 있으면 정확한 집합(jti -> 만료 시각)으로 오탐인지 확인
+ * 
+ * 폐기 기록은 REVOKED_ACCESS_TOKEN 테이블에도 저장되어 재시작 시 다시 읽어옴
+ * 토큰이 만료되면 더 이상 기록할 필요가 없으므로, prune()이 집합과 테이블에서 삭제하고 블룸 필터를 새로 만듦
+ * 다른 서버에서 폐기한 토큰은 재시작 전까지 반영되지 않음
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class AccessTokenRevocations {
+
+	private static final int PRUNE_CHUNK_SIZE = 1000;
+	
+	private final Map<String, Long> revoked = new ConcurrentHashMap<>(); // jti -> 만료 시각(epoch ms)
+	private volatile BloomFilter bloomFilter;
+	private final Object writeLock = new Object(); // revoke와 rebuild가 겹쳐서 새 필터에 jti가 빠지지 않도록
+	
+	private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final long expectedTokens;
+	private final double falsePositiveRate;
+	
+	public AccessTokenRevocations(RevokedAccessTokenRepository revokedAccessTokenRepository, PlatformTransactionManager transactionManager,
+								  @Value("${jwt.revocation.expected-tokens:100000}") long expectedTokens,
+								  @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+		this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.expectedTokens = expectedTokens;
+		this.falsePositiveRate = falsePositiveRate;
+		this.bloomFilter = new BloomFilter(expectedTokens, falsePositiveRate);
+	}
+	
+	@PostConstruct
+	public void load() {
+		revokedAccessTokenRepository.findByExpiresAtAfter(LocalDateTime.now())
+				.forEach(token -> revoked.put(token.getTokenId(), toEpochMilli(token.getExpiresAt())));
+		rebuild();
+		
+		log.info("폐기된 AccessToken {}개 로드", revoked.size());
+	}
+	
+	public boolean isRevoked(String tokenId) {
+		if (tokenId == null) return false; // jti가 없는 이전 형식의 토큰
+		if (!bloomFilter.mightContain(tokenId)) return false;
+		
+		return revoked.containsKey(tokenId);
+	}
+	
+	/**
+	 * 호출한 트랜잭션에서 DB에 기록하고, 메모리에는 커밋 후에 반영
+	 */
+	public void revoke(String tokenId, Instant expiresAt) {
+		if (tokenId == null || revoked.containsKey(tokenId)) return;
+		
+		transactionTemplate.executeWithoutResult(status ->
+				revokedAccessTokenRepository.save(new RevokedAccessToken(tokenId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))));
+		
+		TransactionUtil.afterCommit(() -> {
+			synchronized (writeLock) {
+				revoked.put(tokenId, expiresAt.toEpochMilli());
+				bloomFilter.put(tokenId);
+				
+				if (revoked.size() > bloomFilter.getCapacity()) { // 오탐률이 올라가므로 더 크게 새로 만듦
+					rebuild();
+				}
+			}
+		});
+	}
+	
+	@Scheduled(fixedDelayString = "${jwt.revocation.prune-interval-ms:60000}")
+	public void prune() {
+		long now = System.currentTimeMillis();
+		if (revoked.values().removeIf(expiresAt -> expiresAt < now)) {
+			rebuild();
+		}
+		
+		while (true) {
+			List<Long> ids = revokedAccessTokenRepository.findExpiredIds(LocalDateTime.now(), PageRequest.of(0, PRUNE_CHUNK_SIZE));
+			if (ids.isEmpty()) break;
+			
+			transactionTemplate.executeWithoutResult(status -> revokedAccessTokenRepository.deleteAllByIdInBatch(ids));
+		}
+	}
+	
+	// 현재 집합으로 블룸 필터를 새로 만들어 교체 (만료된 id 제거, 크기 조정)
+	private void rebuild() {
+		synchronized (writeLock) {
+			BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, revoked.size() * 2L), falsePositiveRate);
+			revoked.keySet().forEach(rebuilt::put);
+			bloomFilter = rebuilt;
+		}
+	}
+	
+	private static long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
@@ -0,0 +1,88 @@
+package com.jpa2.global.jwt.revocation;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 id(jti)의 블룸 필터
+ * mightContain이 false면 확실히 폐기되지 않은 토큰 -> 대부분의 요청은 정확한 집합을 조회하지 않음
+ * true면 falsePositiveRate 확률로 오탐이므로 호출하는 쪽에서 정확한 집합으로 확인
+ * 
+ * 삭제를 지원하지 않으므로 만료된 id를 빼려면 새로 만들어야 함 (AccessTokenRevocations.rebuild)
+ * put/mightContain은 여러 스레드에서 동시에 호출해도 됨
+ */
+class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+	private final long capacity;
+	
+	/**
+	 * @param capacity 넣을 것으로 예상하는 원소 수, 넘으면 오탐률이 올라감
+	 */
+	BloomFilter(long capacity, double falsePositiveRate) {
+		this.capacity = Math.max(1, capacity);
+		long optimalBits = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.bitSize = Math.max(64, optimalBits);
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / this.capacity * Math.log(2)));
+		this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+	}
+	
+	void put(String tokenId) {
+		long[] hash = hash(tokenId);
+		for (int i = 0; i < hashCount; i++) {
+			long index = index(hash, i);
+			int word = (int) (index >>> 6);
+			long mask = 1L << index; // 하위 6비트만 사용됨
+			
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) break;
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+	
+	boolean mightContain(String tokenId) {
+		long[] hash = hash(tokenId);
+		for (int i = 0; i < hashCount; i++) {
+			long index = index(hash, i);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+		}
+		return true;
+	}
+	
+	long getCapacity() {
+		return capacity;
+	}
+	
+	// double hashing: i번째 해시 = h1 + i * h2
+	private long index(long[] hash, int i) {
+		return Math.floorMod(hash[0] + i * hash[1], bitSize);
+	}
+	
+	/**
+	 * jti는 UUID이므로 128비트를 그대로 두 개의 해시로 사용 (섞어서 비트를 고르게 분산)
+	 * UUID가 아닌 경우에는 문자열 해시를 섞어서 사용
+	 */
+	private static long[] hash(String tokenId) {
+		long high, low;
+		try {
+			UUID uuid = UUID.fromString(tokenId);
+			high = uuid.getMostSignificantBits();
+			low = uuid.getLeastSignificantBits();
+		} catch (IllegalArgumentException e) {
+			high = tokenId.hashCode();
+			low = (long) tokenId.length() << 32 ^ high;
+		}
+		return new long[] { mix(high), mix(low) | 1 }; // h2가 0이면 모든 해시가 같아짐
+	}
+	
+	// SplitMix64 finalizer
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
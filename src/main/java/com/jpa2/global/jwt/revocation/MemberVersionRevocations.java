@@ -0,0 +1,77 @@
+package com.jpa2.global.jwt.revocation;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jpa2.domain.member.repository.MemberRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별로 "이 버전보다 낮은 AccessToken은 사용할 수 없음"을 기록 (stateless AccessToken 모드에서 사용)
+ * 
+ * 비밀번호 변경, 탈퇴로 Member.authVersion이 올라가면 커밋 후 revoke(memberId, 새 버전)
+ * -> 필터는 DB 조회 없이 토큰의 버전 클레임과 비교만 함
+ * 
+ * 변경 이전에 발급된 토큰은 AccessToken 유효 기간이 지나면 모두 만료되므로, 그 이후의 엔트리는 삭제
+ * 재시작 시에는 유효 기간 안에 수정된 회원의 버전을 DB에서 다시 읽어옴
+ * (탈퇴 회원의 행은 WithdrawnMemberCleaner가 유효 기간이 지난 뒤에 삭제하므로, 재시작해도 탈퇴 전 토큰은 계속 거부됨)
+ * 다른 서버에서 일어난 변경은 재시작 전까지 반영되지 않으므로, 서버가 여러 대라면 AccessToken 유효 기간을 짧게 유지해야 함
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class MemberVersionRevocations {
+
+	private final Map<Long, Revocation> revocations = new ConcurrentHashMap<>(); // 회원 id -> 최소 버전
+	
+	private final MemberRepository memberRepository;
+	private final long retentionMillis; // AccessToken 유효 기간
+	
+	public MemberVersionRevocations(MemberRepository memberRepository,
+									@Value("${jwt.access.expiration}") long accessTokenValidityInSeconds) {
+		this.memberRepository = memberRepository;
+		this.retentionMillis = accessTokenValidityInSeconds * 1000;
+	}
+	
+	@PostConstruct
+	public void load() {
+		LocalDateTime since = LocalDateTime.now().minusNanos(retentionMillis * 1_000_000);
+		
+		memberRepository.findAuthVersionsModifiedAfter(since).forEach(member -> revocations.put(
+				member.id(),
+				new Revocation(member.authVersion(), member.lastModifiedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())));
+		
+		log.info("AccessToken 버전 제한 {}건 로드", revocations.size());
+	}
+	
+	/**
+	 * minVersion 미만의 버전으로 발급된 토큰을 거부
+	 */
+	public void revoke(Long memberId, long minVersion) {
+		Revocation revocation = new Revocation(minVersion, System.currentTimeMillis());
+		revocations.merge(memberId, revocation, (old, current) -> current.minVersion() >= old.minVersion() ? current : old);
+	}
+	
+	public boolean isRevoked(Long memberId, long tokenVersion) {
+		Revocation revocation = revocations.get(memberId);
+		return revocation != null && tokenVersion < revocation.minVersion();
+	}
+	
+	@Scheduled(fixedDelayString = "${jwt.revocation.prune-interval-ms:60000}")
+	public void prune() {
+		long expiredBefore = System.currentTimeMillis() - retentionMillis;
+		revocations.values().removeIf(revocation -> revocation.revokedAt() < expiredBefore);
+	}
+	
+	private record Revocation(long minVersion, long revokedAt) {
+	}
+}
@@ -2,12 +2,15 @@ package com.jpa2.global.jwt.service;
 
 import java.util.Optional;
 
+import com.jpa2.domain.member.cache.MemberPrincipal;
+
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 public interface JwtService {
 
 	String createAccessToken(String username);
+	String createAccessToken(MemberPrincipal principal); // 권한, 인증 정보 버전 클레임 포함
 	String createRefreshToken();
 	
 	void updateRefreshToken(String username, String refreshToken);
@@ -24,6 +27,8 @@ public interface JwtService {
 	
 	Optional<String> extractUsername(String accessToken);
 	
+	Optional<VerifiedToken> verify(String token); // 검증에 실패하면 empty
+	
 	void setAccessTokenHeader(HttpServletResponse response, String accessToken);
 	void setRefreshTokenHeader(HttpServletResponse response, String refreshToken);
 	
@@ -4,14 +4,23 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.cache.MemberPrincipal;
 import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.member.token.RefreshTokenStore;
+import com.jpa2.global.jwt.cache.VerifiedTokenCache;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
@@ -23,7 +32,6 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 @Setter(value = AccessLevel.PRIVATE)
-@Transactional
 @Slf4j
 public class JwtServiceImpl implements JwtService {
 
@@ -51,41 +59,79 @@ public class JwtServiceImpl implements JwtService {
 	private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
 	private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
 	private static final String USERNAME_CLAIM = "username";
+	private static final String MEMBER_ID_CLAIM = "id";
+	private static final String ROLE_CLAIM = "role";
+	private static final String AUTH_VERSION_CLAIM = "ver";
 	private static final String BEARER = "Bearer ";
 	
 	private final MemberRepository memberRepository;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final RefreshTokenStore refreshTokenStore;
+	
+	/**
+	 * Algorithm, JWTVerifier는 스레드 안전하므로 한 번만 만들어서 재사용
+	 * (요청마다 만들면 HMAC 키 초기화가 매번 일어남)
+	 */
+	private Algorithm algorithm;
+	private JWTVerifier verifier;
+	
+	@PostConstruct
+	void init() {
+		algorithm = Algorithm.HMAC512(secret);
+		verifier = JWT.require(algorithm).build();
+	}
 	
 	@Override
 	public String createAccessToken(String username) {
 		return JWT.create()
 				.withSubject(ACCESS_TOKEN_SUBJECT)
+				.withJWTId(UUID.randomUUID().toString()) // 로그아웃 시 이 토큰만 폐기하기 위한 id
 				.withExpiresAt(new Date(System.currentTimeMillis() + accessTokenValidityInSeconds * 1000))
 				.withClaim(USERNAME_CLAIM, username)
-				.sign(Algorithm.HMAC512(secret));
+				.sign(algorithm);
+	}
+	
+	/**
+	 * stateless 모드(jwt.access.stateless)에서는 필터가 DB 조회 없이 이 클레임들로 인증 정보를 만듦
+	 */
+	@Override
+	public String createAccessToken(MemberPrincipal principal) {
+		return JWT.create()
+				.withSubject(ACCESS_TOKEN_SUBJECT)
+				.withJWTId(UUID.randomUUID().toString()) // 로그아웃 시 이 토큰만 폐기하기 위한 id
+				.withExpiresAt(new Date(System.currentTimeMillis() + accessTokenValidityInSeconds * 1000))
+				.withClaim(USERNAME_CLAIM, principal.username())
+				.withClaim(MEMBER_ID_CLAIM, principal.id())
+				.withClaim(ROLE_CLAIM, principal.role().name())
+				.withClaim(AUTH_VERSION_CLAIM, principal.authVersion())
+				.sign(algorithm);
 	}
 	
 	@Override
 	public String createRefreshToken() {
 		return JWT.create()
 				.withSubject(REFRESH_TOKEN_SUBJECT)
+				.withJWTId(UUID.randomUUID().toString()) // 같은 시각에 발급해도 토큰(= 저장되는 해시)이 겹치지 않도록
 				.withExpiresAt(new Date(System.currentTimeMillis() + refreshTokenValidityInSeconds * 1000))
-				.sign(Algorithm.HMAC512(secret));
+				.sign(algorithm);
 	}
 	
 	@Override
+	@Transactional
 	public void updateRefreshToken(String username, String refreshToken) {
 		memberRepository.findByUsername(username)
 			.ifPresentOrElse(
-					member -> member.updateRefreshToken(refreshToken),
+					member -> refreshTokenStore.issue(member.getId(), refreshToken), // 새 세션 추가
 					() -> new Exception("회원이 없습니다.")
 			);
 		
 	}
 	@Override
+	@Transactional
 	public void destroyRefreshToken(String username) {
 		memberRepository.findByUsername(username)
 			.ifPresentOrElse(
-					member -> member.destroyRefreshToken(),
+					member -> refreshTokenStore.revokeAll(member.getId()), // 회원의 모든 세션 삭제
 					() -> new Exception("회원이 없습니다."));
 	}
 	
@@ -132,11 +178,33 @@ public class JwtServiceImpl implements JwtService {
 	
 	@Override
 	public Optional<String> extractUsername(String accessToken) {
-		
+		return verify(accessToken).map(VerifiedToken::username);
+	}
+	
+	/**
+	 * 서명/만료 검증과 디코딩을 한 번에 수행
+	 * 최근에 검증한 토큰은 VerifiedTokenCache에서 바로 반환
+	 */
+	@Override
+	public Optional<VerifiedToken> verify(String token) {
+		return verifiedTokenCache.get(token, this::decode);
+	}
+	
+	private Optional<VerifiedToken> decode(String token) {
 		try {
-			return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secret)).build().verify(accessToken).getClaim(USERNAME_CLAIM).asString());
-		} catch (Exception e) {
-			log.error(e.getMessage());
+			DecodedJWT decodedJWT = verifier.verify(token);
+			String role = decodedJWT.getClaim(ROLE_CLAIM).asString();
+			
+			return Optional.of(new VerifiedToken(
+					decodedJWT.getSubject(),
+					decodedJWT.getClaim(USERNAME_CLAIM).asString(),
+					decodedJWT.getExpiresAtAsInstant(),
+					decodedJWT.getId(),
+					decodedJWT.getClaim(MEMBER_ID_CLAIM).asLong(),
+					role == null ? null : Role.valueOf(role),
+					decodedJWT.getClaim(AUTH_VERSION_CLAIM).asLong()));
+		} catch (JWTVerificationException | IllegalArgumentException e) { // IllegalArgumentException: 알 수 없는 권한
+			log.error("유효하지 않은 Token입니다 {}", e.getMessage());
 			return Optional.empty();
 		}
 	}
@@ -153,12 +221,6 @@ public class JwtServiceImpl implements JwtService {
 	
 	@Override
     public boolean isTokenValid(String token){
-        try {
-            JWT.require(Algorithm.HMAC512(secret)).build().verify(token);
-            return true;
-        }catch (Exception e){
-            log.error("유효하지 않은 Token입니다", e.getMessage());
-            return false;
-        }
+        return verify(token).isPresent();
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.jpa2.global.jwt.service;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.cache.MemberPrincipal;
+
+/**
+ * 서명과 만료 시간 검증을 통과한 토큰에서 꺼낸 정보
+ * @param username AccessToken인 경우에만 존재 (RefreshToken은 null)
+ * @param tokenId jti, 로그아웃 시 AccessTokenRevocations에 등록 (AccessToken인 경우에만 존재)
+ * @param memberId, role, authVersion createAccessToken(MemberPrincipal)로 발급한 AccessToken인 경우에만 존재
+ */
+public record VerifiedToken(String subject, String username, Instant expiresAt, String tokenId,
+							Long memberId, Role role, Long authVersion) {
+	
+	/**
+	 * 토큰의 클레임만으로 만든 회원 정보 (stateless 모드, DB 조회 없음)
+	 * @return 필요한 클레임이 없는 토큰이면 empty
+	 */
+	public Optional<MemberPrincipal> toPrincipal() {
+		if (username == null || memberId == null || role == null || authVersion == null) return Optional.empty();
+		
+		return Optional.of(new MemberPrincipal(memberId, username, role, authVersion));
+	}
+}
@@ -0,0 +1,7 @@
+package com.jpa2.global.login.dto;
+
+/**
+ * /login 요청 본문 (JsonUsernamePasswordAuthenticationFilter에서 요청 스트림을 바로 읽어 변환)
+ */
+public record LoginDto(String username, String password) {
+}
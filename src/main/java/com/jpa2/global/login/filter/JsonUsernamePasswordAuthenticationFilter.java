@@ -1,18 +1,21 @@
 package com.jpa2.global.login.filter;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Map;
 
 import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
-import org.springframework.util.StreamUtils;
 
+import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jpa2.global.login.dto.LoginDto;
+import com.jpa2.global.login.limit.LoginRateLimitException;
+import com.jpa2.global.login.limit.LoginRateLimiter;
+import com.jpa2.global.password.exception.PasswordException;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,18 +31,19 @@ public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthentica
 	
 	private final ObjectMapper objectMapper;
 	
-	private static final String USERNAME_KEY = "username";
+	private final LoginRateLimiter loginRateLimiter;
 	
-	private static final String PASSWORD_KEY = "password";
+	private static final int MAX_USERNAME_LENGTH = 30; // Member.username 컬럼 길이, 이보다 긴 아이디는 존재할 수 없음
 	
 	private static final AntPathRequestMatcher DEFAULT_LOGIN_PATH_REQUEST_MATCHER =
 			new AntPathRequestMatcher(DEFAULT_LOGIN_REQUEST_URL, HTTP_METHOD); // '/login' 의 요청에, POST로 온 요청이 매칭
 	
-	public JsonUsernamePasswordAuthenticationFilter(ObjectMapper objectMapper) {
+	public JsonUsernamePasswordAuthenticationFilter(ObjectMapper objectMapper, LoginRateLimiter loginRateLimiter) {
 		
 		super(DEFAULT_LOGIN_PATH_REQUEST_MATCHER); // 위에서 설정한 '/oauth2/login/*' 요청에, GET으로 온 요청을 처리하기 위한 설정
 		
 		this.objectMapper = objectMapper;
+		this.loginRateLimiter = loginRateLimiter;
 	}
 
 	/**
@@ -48,6 +52,8 @@ public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthentica
 	 * JSON 방식으로 로그인하는 것만 달라졌을 뿐,
 	 * username과 password를 사용하여 로그인하는 방법은 똑같기 때문에
 	 * 따로 구현하지 않고 있는 그대로 가져다 사용
+	 * 
+	 * 회원 조회와 비밀번호 해시 전에 LoginRateLimiter로 시도 횟수를 제한
 	 */
 	@Override
 	public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response)
@@ -56,15 +62,39 @@ public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthentica
 			throw new AuthenticationServiceException("Authentication Content-Type not supported: " + request.getContentType());
 		}
 		
-		String messageBody = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+		if (!loginRateLimiter.tryAcquireAddress(request.getRemoteAddr())) { // 본문을 읽기 전에 주소별 제한
+			throw new LoginRateLimitException("Too many login attempts from: " + request.getRemoteAddr());
+		}
 		
-		Map<String, String> usernamePasswordMap = objectMapper.readValue(messageBody, Map.class);
+		LoginDto loginDto;
+		try {
+			loginDto = objectMapper.readValue(request.getInputStream(), LoginDto.class); // 문자열로 복사하지 않고 스트림에서 바로 변환
+		} catch (JacksonException e) {
+			throw new AuthenticationServiceException("Invalid login request body", e);
+		}
+		if (loginDto == null) { // 본문이 JSON null
+			throw new AuthenticationServiceException("Invalid login request body");
+		}
 		
-		String username = usernamePasswordMap.get(USERNAME_KEY);
-		String password = usernamePasswordMap.get(PASSWORD_KEY);
+		String username = loginDto.username();
+		if (username != null && username.length() > MAX_USERNAME_LENGTH) { // 제한 버킷의 키로 쓰기 전에 길이 검사
+			throw new AuthenticationServiceException("Invalid username");
+		}
 		
-		UsernamePasswordAuthenticationToken authRequest = new UsernamePasswordAuthenticationToken(username, password); // principal과 credentials 전달
+		String address = request.getRemoteAddr();
+		if (loginRateLimiter.isUsernameBlocked(username, address)) { // 회원 조회 전에 아이디별 제한 (실패한 시도만 셈)
+			throw new LoginRateLimitException("Too many failed login attempts for: " + username);
+		}
+		
+		UsernamePasswordAuthenticationToken authRequest = new UsernamePasswordAuthenticationToken(username, loginDto.password()); // principal과 credentials 전달
 		
-		return this.getAuthenticationManager().authenticate(authRequest);
+		try {
+			return this.getAuthenticationManager().authenticate(authRequest);
+		} catch (BadCredentialsException e) { // 아이디가 없거나 비밀번호가 틀림
+			loginRateLimiter.recordUsernameFailure(username, address);
+			throw e;
+		} catch (PasswordException e) { // 비밀번호 해시 대기열이 가득 참 -> LoginFailureHandler에서 503
+			throw new AuthenticationServiceException(e.getExceptionType().getErrorMessage(), e);
+		}
 	}
 }
\ No newline at end of file
@@ -2,9 +2,14 @@ package com.jpa2.global.login.handler;
 
 import java.io.IOException;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 
+import com.jpa2.global.login.limit.LoginRateLimitException;
+import com.jpa2.global.password.exception.PasswordException;
+
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -17,6 +22,23 @@ public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
 	public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
 			AuthenticationException exception) throws IOException, ServletException {
 		
+		if (exception instanceof LoginRateLimitException) { // 시도 횟수 초과
+			response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+			
+			response.getWriter().write("fail");
+			log.info("로그인 시도 횟수를 초과했습니다.");
+			return;
+		}
+		
+		if (exception.getCause() instanceof PasswordException passwordException) { // 로그인이 몰려 해시를 계산하지 못함 -> 잠시 후 재시도
+			response.setStatus(passwordException.getExceptionType().getHttpStatus().value());
+			response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+			
+			response.getWriter().write("busy");
+			log.warn("비밀번호 해시 대기열이 가득 차 로그인을 거절했습니다.");
+			return;
+		}
+		
 		response.setStatus(HttpServletResponse.SC_BAD_REQUEST); // 보안을 위해 모든 요청에 대해 로그인 오류
 		
 		response.getWriter().write("fail");
@@ -6,8 +6,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 
-import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.member.token.RefreshTokenStore;
 import com.jpa2.global.jwt.service.JwtService;
+import com.jpa2.global.util.security.LoginMember;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,21 +21,21 @@ import lombok.extern.slf4j.Slf4j;
 public class LoginSuccessJWTProvideHandler extends SimpleUrlAuthenticationSuccessHandler {
 	
 	private final JwtService jwtService;
-	private final MemberRepository memberRepository;
+	private final RefreshTokenStore refreshTokenStore;
 
 	@Override
 	public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
 			Authentication authentication) throws IOException, ServletException {
 		
 		String username = extractUsername(authentication);
-		String accessToken = jwtService.createAccessToken(username);
+		LoginMember loginMember = (LoginMember) authentication.getPrincipal(); // LoginService에서 반환
+		
+		String accessToken = jwtService.createAccessToken(loginMember.toPrincipal()); // 권한, 인증 정보 버전 포함
 		String refreshToken = jwtService.createRefreshToken();
 		
-		jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
+		refreshTokenStore.issue(loginMember.getId(), refreshToken); // 새 세션 추가 (다른 기기의 세션은 유지), 저장에 실패하면 토큰을 보내지 않음
 		
-		memberRepository.findByUsername(username).ifPresent(
-				member -> member.updateRefreshToken(refreshToken)
-		);
+		jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
 		
 		log.info("로그인에 성공합니다. username: {}", username);
 		log.info("AccessToken 을 발급합니다. AccessToken: {}", accessToken);
@@ -0,0 +1,13 @@
+package com.jpa2.global.login.limit;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 로그인 시도 제한에 걸림 -> LoginFailureHandler에서 429
+ */
+public class LoginRateLimitException extends AuthenticationException {
+
+	public LoginRateLimitException(String msg) {
+		super(msg);
+	}
+}
@@ -0,0 +1,115 @@
+package com.jpa2.global.login.limit;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 로그인 시도 제한 (토큰 버킷)
+ * 
+ * 토큰이 없으면 회원 조회와 비밀번호 해시 없이 바로 거절 (JsonUsernamePasswordAuthenticationFilter)
+ *  - 주소: 요청 본문을 읽기 전에 확인, 모든 시도마다 토큰 사용 -> 한 곳에서 여러 아이디를 대입하는 공격
+ *  - username + 주소: 본문을 읽은 후 확인, 실패한 시도만 토큰 사용 -> 한 아이디의 비밀번호를 대입하는 공격
+ *    (다른 곳에서 틀린 비밀번호를 보내도 원래 사용자의 로그인은 막히지 않음)
+ * 
+ * 버킷은 마지막 사용 후 가득 찰 때까지의 시간이 지나면 만료되어 삭제됨 (다시 만들면 가득 찬 버킷과 같으므로)
+ * 최대 개수(max-entries)도 제한하여 많은 주소/아이디로 요청이 와도 메모리가 계속 늘지 않음
+ * 서버마다 따로 세므로 여러 서버에서는 서버 수만큼 더 허용됨
+ */
+@Component
+public class LoginRateLimiter {
+
+	private final Limit addressLimit;
+	private final Limit usernameLimit;
+	
+	public LoginRateLimiter(@Value("${login.rate-limit.address-capacity:30}") int addressCapacity,
+							@Value("${login.rate-limit.address-refill-per-minute:30}") int addressRefillPerMinute,
+							@Value("${login.rate-limit.username-capacity:5}") int usernameCapacity,
+							@Value("${login.rate-limit.username-refill-per-minute:5}") int usernameRefillPerMinute,
+							@Value("${login.rate-limit.max-entries:100000}") long maxEntries) {
+		this.addressLimit = new Limit(addressCapacity, addressRefillPerMinute, maxEntries);
+		this.usernameLimit = new Limit(usernameCapacity, usernameRefillPerMinute, maxEntries);
+	}
+	
+	/**
+	 * @return 토큰이 남아 있어 시도할 수 있으면 true
+	 */
+	public boolean tryAcquireAddress(String address) {
+		return addressLimit.tryAcquire(address);
+	}
+	
+	/**
+	 * @param username 길이를 제한한 값이어야 함 (버킷의 키)
+	 * @return 실패한 시도로 토큰을 모두 사용했으면 true
+	 */
+	public boolean isUsernameBlocked(String username, String address) {
+		return usernameLimit.isExhausted(usernameKey(username, address));
+	}
+	
+	public void recordUsernameFailure(String username, String address) {
+		usernameLimit.tryAcquire(usernameKey(username, address));
+	}
+	
+	private static String usernameKey(String username, String address) {
+		return (username == null ? "" : username) + " " + address;
+	}
+	
+	/**
+	 * 같은 종류의 키가 공유하는 설정과 버킷들
+	 */
+	private static final class Limit {
+		
+		private final double capacity;
+		private final double refillPerNano;
+		private final Cache<String, TokenBucket> buckets;
+		
+		private Limit(int capacity, int refillPerMinute, long maxEntries) {
+			this.capacity = capacity;
+			this.refillPerNano = refillPerMinute / (double) Duration.ofMinutes(1).toNanos();
+			this.buckets = Caffeine.newBuilder()
+					.maximumSize(maxEntries)
+					.expireAfterAccess(Duration.ofNanos((long) Math.ceil(capacity / refillPerNano))) // 가득 찰 때까지의 시간
+					.build();
+		}
+		
+		private boolean tryAcquire(String key) {
+			long now = System.nanoTime();
+			return buckets.get(key, k -> new TokenBucket(capacity, now)).tryAcquire(capacity, refillPerNano, now);
+		}
+		
+		private boolean isExhausted(String key) {
+			TokenBucket bucket = buckets.getIfPresent(key); // 없으면 가득 찬 버킷과 같음, 확인만으로 만들지 않음
+			return bucket != null && !bucket.hasToken(capacity, refillPerNano, System.nanoTime());
+		}
+	}
+	
+	private static final class TokenBucket {
+		
+		private double tokens;
+		private long lastRefillNanos;
+		
+		private TokenBucket(double tokens, long now) {
+			this.tokens = tokens;
+			this.lastRefillNanos = now;
+		}
+		
+		private synchronized boolean tryAcquire(double capacity, double refillPerNano, long now) {
+			if (!hasToken(capacity, refillPerNano, now)) return false;
+			
+			tokens -= 1;
+			return true;
+		}
+		
+		private synchronized boolean hasToken(double capacity, double refillPerNano, long now) {
+			if (now > lastRefillNanos) { // 지난 시간만큼 채움
+				tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+				lastRefillNanos = now;
+			}
+			return tokens >= 1;
+		}
+	}
+}
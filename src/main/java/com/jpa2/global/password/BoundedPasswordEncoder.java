@@ -0,0 +1,80 @@
+package com.jpa2.global.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.jpa2.global.password.exception.PasswordException;
+import com.jpa2.global.password.exception.PasswordExceptionType;
+
+/**
+ * 비밀번호 해시(encode, matches)를 크기가 정해진 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * 
+ * bcrypt 해시는 한 번에 수십 ms의 CPU를 사용하므로, 로그인이 몰리면 요청 스레드가 모두 해시 계산에 묶여 다른 API까지 느려짐
+ * -> 동시에 계산하는 해시 수를 threads로, 기다리는 해시 수를 queueCapacity로 제한
+ * 대기열이 가득 차면 기다리지 않고 바로 PasswordException(HASHING_BUSY, 503)
+ * 
+ * 로그인(DaoAuthenticationProvider), 회원가입, 비밀번호 변경, 탈퇴 모두 이 인코더를 사용
+ * upgradeEncoding은 해시를 계산하지 않지만, true면 로그인 성공 후 encode가 한 번 더 일어남
+ *   -> 대기 중인 해시가 있으면(풀에 여유가 없으면) false, 다시 해시하는 것은 다음 로그인으로 미룸
+ *   (다시 해시하다 HASHING_BUSY가 나면 맞는 비밀번호로 로그인해도 503이 됨)
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+		this.delegate = delegate;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+				new ThreadPoolExecutor.AbortPolicy()); // 대기열이 가득 차면 RejectedExecutionException
+	}
+	
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return execute(() -> delegate.encode(rawPassword));
+	}
+	
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+	
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return executor.getQueue().isEmpty() && delegate.upgradeEncoding(encodedPassword);
+	}
+	
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+	
+	private <T> T execute(Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException e) { // 대기열이 가득 참 (또는 종료 중)
+			throw new PasswordException(PasswordExceptionType.HASHING_BUSY);
+		}
+		
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new PasswordException(PasswordExceptionType.HASHING_BUSY);
+		} catch (ExecutionException e) { // 인코더에서 발생한 예외는 그대로 전달
+			if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+			if (e.getCause() instanceof Error error) throw error;
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
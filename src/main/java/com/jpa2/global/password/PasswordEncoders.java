@@ -0,0 +1,70 @@
+package com.jpa2.global.password;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+/**
+ * 설정값(password.hashing.*)으로 DelegatingPasswordEncoder 생성
+ * 
+ * 새 비밀번호는 idForEncode 방식으로 해시하고, 저장된 해시는 앞의 {id}를 보고 해당 방식으로 검사
+ * 여기에 없는 {id}(scrypt, argon2 등 이전 해시)는 PasswordEncoderFactories의 기본 인코더로 검사
+ * -> 방식이나 cost를 바꿔도 기존 해시로 계속 로그인할 수 있고, 로그인 시 새 설정으로 다시 해시됨 (LoginService.updatePassword)
+ * 
+ * {id}의 의미는 PasswordEncoderFactories와 같게 유지 ({pbkdf2}는 v5.5 기본값, {pbkdf2@SpringSecurity_v5_8}은 v5.8 기본값)
+ * -> 다른 곳에서 만든 해시도 같은 방식으로 검사됨
+ */
+public class PasswordEncoders {
+
+	public static final String BCRYPT = "bcrypt";
+	public static final String PBKDF2 = "pbkdf2@SpringSecurity_v5_8";
+	private static final String PBKDF2_V5_5 = "pbkdf2"; // 이전 해시 검사용
+	
+	public static PasswordEncoder create(String idForEncode, int bcryptStrength) {
+		Map<String, PasswordEncoder> encoders = new HashMap<>();
+		encoders.put(BCRYPT, new StrengthCheckingBCryptPasswordEncoder(bcryptStrength));
+		encoders.put(PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+		encoders.put(PBKDF2_V5_5, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_5());
+		
+		if (idForEncode.equals(PBKDF2_V5_5)) { // v5.5 기본값으로 새 해시를 만들지 않음
+			throw new IllegalArgumentException("password.hashing.algorithm: " + PBKDF2_V5_5 + " 대신 " + PBKDF2 + "를 사용하세요.");
+		}
+		if (!encoders.containsKey(idForEncode)) {
+			throw new IllegalArgumentException("지원하지 않는 password.hashing.algorithm: " + idForEncode);
+		}
+		
+		DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+		passwordEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+		return passwordEncoder;
+	}
+	
+	/**
+	 * BCryptPasswordEncoder.upgradeEncoding은 저장된 cost가 설정보다 낮을 때만 true
+	 * cost를 낮춰 로그인 응답 시간을 줄이는 경우에도 다시 해시되도록, 설정과 다르면 true
+	 */
+	private static class StrengthCheckingBCryptPasswordEncoder extends BCryptPasswordEncoder {
+		
+		private final int strength;
+		
+		private StrengthCheckingBCryptPasswordEncoder(int strength) {
+			super(strength);
+			this.strength = strength;
+		}
+		
+		@Override
+		public boolean upgradeEncoding(String encodedPassword) {
+			if (encodedPassword == null || encodedPassword.length() < 7) return false; // $2a$10$...
+			
+			try {
+				return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+			} catch (NumberFormatException e) {
+				return false;
+			}
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.jpa2.global.password.exception;
+
+import com.jpa2.global.exception.BaseException;
+import com.jpa2.global.exception.BaseExceptionType;
+
+public class PasswordException extends BaseException {
+
+	private BaseExceptionType exceptionType;
+	
+	public PasswordException(BaseExceptionType exceptionType) {
+		this.exceptionType = exceptionType;
+	}
+
+	@Override
+	public BaseExceptionType getExceptionType() {
+		return exceptionType;
+	}
+}
@@ -0,0 +1,35 @@
+package com.jpa2.global.password.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.jpa2.global.exception.BaseExceptionType;
+
+public enum PasswordExceptionType implements BaseExceptionType {
+
+	HASHING_BUSY(11000, HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+	
+	private int errorCode;
+	private HttpStatus httpStatus;
+	private String errorMessage;
+	
+	private PasswordExceptionType(int errorCode, HttpStatus httpStatus, String errorMessage) {
+		this.errorCode = errorCode;
+		this.httpStatus = httpStatus;
+		this.errorMessage = errorMessage;
+	}
+
+	@Override
+	public int getErrorCode() {
+		return this.errorCode;
+	}
+
+	@Override
+	public HttpStatus getHttpStatus() {
+		return this.httpStatus;
+	}
+
+	@Override
+	public String getErrorMessage() {
+		return this.errorMessage;
+	}
+}
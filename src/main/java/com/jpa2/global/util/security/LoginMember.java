@@ -0,0 +1,47 @@
+package com.jpa2.global.util.security;
+
+import java.util.List;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.cache.MemberPrincipal;
+
+import lombok.Getter;
+
+/**
+ * SecurityContext에 저장하는 인증 정보, username 외에 회원 id를 함께 가짐
+ * -> 서비스에서 로그인한 회원을 다시 조회하지 않고 id로 사용
+ */
+@Getter
+public class LoginMember extends User {
+
+	private static final String ROLE_PREFIX = "ROLE_";
+	
+	private final Long id;
+	private final Role role;
+	private final long authVersion;
+	
+	// 로그인 시 (LoginService), 비밀번호 검사에 사용
+	public LoginMember(Member member) {
+		super(member.getUsername(), member.getPassword(), List.of(new SimpleGrantedAuthority(ROLE_PREFIX + member.getRole().name())));
+		this.id = member.getId();
+		this.role = member.getRole();
+		this.authVersion = member.getAuthVersion();
+	}
+	
+	// 토큰 인증 시 (JwtAuthenticationProcessingFilter), 비밀번호는 가지지 않음
+	// principal은 MemberPrincipalCache에서 조회했거나, stateless 모드에서 토큰 클레임으로 만든 것
+	public LoginMember(MemberPrincipal principal) {
+		super(principal.username(), "", List.of(new SimpleGrantedAuthority(ROLE_PREFIX + principal.role().name())));
+		this.id = principal.id();
+		this.role = principal.role();
+		this.authVersion = principal.authVersion();
+	}
+	
+	public MemberPrincipal toPrincipal() {
+		return new MemberPrincipal(id, getUsername(), role, authVersion);
+	}
+}
@@ -1,12 +1,28 @@
 package com.jpa2.global.util.security;
 
+import java.util.Optional;
+
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.jpa2.global.jwt.service.VerifiedToken;
+
 public class SecurityUtil {
 	public static String getLoginUsername() { // SecurityContextHolder에서 username을 꺼내오는 메서드
 		UserDetails user = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 		
 		return user.getUsername();
 	}
-}
\ No newline at end of file
+	
+	public static Long getLoginMemberId() { // SecurityContextHolder에서 회원 id를 꺼내오는 메서드 (회원 조회 없이 사용)
+		LoginMember loginMember = (LoginMember) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		
+		return loginMember.getId();
+	}
+	
+	public static Optional<VerifiedToken> getLoginAccessToken() { // 현재 요청의 AccessToken 정보 (JwtAuthenticationProcessingFilter에서 저장)
+		return SecurityContextHolder.getContext().getAuthentication().getCredentials() instanceof VerifiedToken token
+				? Optional.of(token)
+				: Optional.empty();
+	}
+}
@@ -0,0 +1,24 @@
+package com.jpa2.global.util.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class TokenHashUtil {
+	
+	public static final int HASH_LENGTH = 64; // SHA-256 16진수 문자열 길이
+	
+	/**
+	 * 토큰의 SHA-256 (16진수 64자)
+	 * 토큰 원문 대신 캐시/DB의 키로 사용 -> 길이가 고정되고, 저장된 값이 유출되어도 토큰으로 쓸 수 없음
+	 */
+	public static String sha256(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)); // JWT는 base64url 문자만 사용
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) { // 모든 JVM이 SHA-256을 지원해야 함
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.jpa2.global.util.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+	
+	/**
+	 * 현재 트랜잭션이 커밋된 이후에 작업을 실행
+	 * 롤백되면 실행하지 않으며, 트랜잭션 밖에서 호출되면 즉시 실행
+	 * 
+	 * 메모리에 있는 인덱스, 캐시 등을 DB와 맞추는 작업에 사용
+	 * (커밋 전에 반영하면 롤백 시 DB와 어긋나게 됨)
+	 */
+	public static void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+}
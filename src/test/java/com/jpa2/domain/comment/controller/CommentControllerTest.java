@@ -22,7 +22,6 @@ import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
@@ -43,6 +42,7 @@ import com.jpa2.domain.post.Post;
 import com.jpa2.domain.post.dto.PostSaveDto;
 import com.jpa2.domain.post.repository.PostRepository;
 import com.jpa2.global.jwt.service.JwtService;
+import com.jpa2.global.util.security.LoginMember;
 
 import jakarta.persistence.EntityManager;
 
@@ -94,11 +94,7 @@ class CommentControllerTest {
 		SecurityContext emptyContext = SecurityContextHolder.createEmptyContext();
 		emptyContext.setAuthentication(
 				new UsernamePasswordAuthenticationToken(
-						User.builder()
-								.username(USERNAME)
-								.password("1234567890")
-								.roles(Role.USER.toString())
-								.build(),
+						new LoginMember(member),
 						null)
 		);
 		SecurityContextHolder.setContext(emptyContext);
@@ -0,0 +1,59 @@
+package com.jpa2.domain.comment.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CommentInfoDtoTest {
+
+	private CommentQueryDto comment(Long id, Long parentId, boolean isRemoved) {
+		return new CommentQueryDto(id, 1L, parentId, "댓글" + id, isRemoved, 0, "이름", "별명", "username", 20);
+	}
+	
+//	댓글 트리 조립: 대댓글이 없는 댓글도 포함되고, id 순서가 유지됨
+	@Test
+	public void 댓글_트리_조립() throws Exception {
+		// given
+		List<CommentQueryDto> comments = List.of(
+				comment(1L, null, false),
+				comment(2L, null, false), // 대댓글 없음
+				comment(3L, 1L, false),
+				comment(4L, null, true), // 삭제된 댓글
+				comment(5L, 1L, false),
+				comment(6L, 4L, false));
+		
+		// when
+		List<CommentInfoDto> tree = CommentInfoDto.assembleTree(comments);
+		
+		// then
+		assertThat(tree).extracting(CommentInfoDto::getCommentId).containsExactly(1L, 2L, 4L);
+		assertThat(tree.get(0).getReCommentListDtoList()).extracting(ReCommentInfoDto::getReCommentId).containsExactly(3L, 5L);
+		assertThat(tree.get(1).getReCommentListDtoList()).isEmpty();
+		assertThat(tree.get(2).getContent()).isEqualTo("삭제된 댓글입니다");
+		assertThat(tree.get(2).getReCommentListDtoList()).extracting(ReCommentInfoDto::getParentId).containsExactly(4L);
+	}
+	
+//	일부 대댓글만 남긴 경우 마지막으로 남긴 대댓글 id가 나머지를 조회할 커서가 됨
+	@Test
+	public void 대댓글_일부만_포함() throws Exception {
+		// given
+		List<CommentInfoDto> tree = CommentInfoDto.assembleTree(List.of(
+				comment(1L, null, false),
+				comment(2L, null, false),
+				comment(3L, 1L, false),
+				comment(4L, 1L, false),
+				comment(5L, 1L, false),
+				comment(6L, 2L, false)));
+		
+		// when
+		tree.forEach(commentInfoDto -> commentInfoDto.limitReCommentList(2));
+		
+		// then
+		assertThat(tree.get(0).getReCommentListDtoList()).extracting(ReCommentInfoDto::getReCommentId).containsExactly(3L, 4L);
+		assertThat(tree.get(0).getReCommentNextCursor()).isEqualTo(4L);
+		assertThat(tree.get(1).getReCommentListDtoList()).extracting(ReCommentInfoDto::getReCommentId).containsExactly(6L);
+		assertThat(tree.get(1).getReCommentNextCursor()).isNull();
+	}
+}
@@ -15,7 +15,6 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jpa2.domain.comment.Comment;
@@ -23,12 +22,13 @@ import com.jpa2.domain.comment.dto.CommentSaveDto;
 import com.jpa2.domain.comment.exception.CommentException;
 import com.jpa2.domain.comment.exception.CommentExceptionType;
 import com.jpa2.domain.comment.repository.CommentRepository;
-import com.jpa2.domain.member.Role;
 import com.jpa2.domain.member.dto.MemberSignUpDto;
+import com.jpa2.domain.member.repository.MemberRepository;
 import com.jpa2.domain.member.serivce.MemberService;
 import com.jpa2.domain.post.Post;
 import com.jpa2.domain.post.dto.PostSaveDto;
 import com.jpa2.domain.post.repository.PostRepository;
+import com.jpa2.global.util.security.LoginMember;
 
 import jakarta.persistence.EntityManager;
 
@@ -48,6 +48,9 @@ class CommentServiceTest {
 	@Autowired
 	MemberService memberService;
 	
+	@Autowired
+	MemberRepository memberRepository;
+	
 	@Autowired
 	EntityManager em;
 	
@@ -62,11 +65,7 @@ class CommentServiceTest {
         SecurityContext emptyContext = SecurityContextHolder.createEmptyContext();
         emptyContext.setAuthentication(
                 new UsernamePasswordAuthenticationToken(
-                        User.builder()
-                                .username("USERNAME")
-                                .password("PASSWORD")
-                                .roles(Role.USER.toString())
-                                .build(),
+                        new LoginMember(memberRepository.findByUsername("USERNAME").orElseThrow()),
                         null)
         );
         SecurityContextHolder.setContext(emptyContext);
@@ -78,11 +77,7 @@ class CommentServiceTest {
         SecurityContext emptyContext = SecurityContextHolder.createEmptyContext();
         emptyContext.setAuthentication(
                 new UsernamePasswordAuthenticationToken(
-                        User.builder()
-                                .username("USERNAME1")
-                                .password("PASSWORD123")
-                                .roles(Role.USER.toString())
-                                .build(),
+                        new LoginMember(memberRepository.findByUsername("USERNAME1").orElseThrow()),
                         null)
         );
         SecurityContextHolder.setContext(emptyContext);
@@ -333,4 +328,54 @@ class CommentServiceTest {
 		Assertions.assertThat(commentRepository.findById(reComment3Id).orElseThrow(() -> new CommentException(CommentExceptionType.NOT_FOUND_COMMENT)).getId()).isNotNull();
 		Assertions.assertThat(commentRepository.findById(commentId).orElseThrow(() -> new CommentException(CommentExceptionType.NOT_FOUND_COMMENT)).getId()).isNotNull();
 	}
-}
\ No newline at end of file
+	
+	private Long lastCommentId() {
+		return em.createQuery("select max(c.id) from Comment c", Long.class).getSingleResult();
+	}
+	
+	/**
+	 * 한 게시글에서 댓글과 대댓글 2개, 다른 댓글 1개
+	 * 삭제할 때마다 게시글의 댓글 수, 부모 댓글의 대댓글 수가 줄고
+	 * 댓글과 대댓글이 모두 삭제 표시되면 댓글과 대댓글 행이 한꺼번에 삭제됨 (다른 댓글은 남음)
+	 */
+	@Test
+	public void 댓글_서브트리_삭제_댓글수_반영() throws Exception {
+		// given
+		Long postId = savePost();
+		commentService.save(postId, new CommentSaveDto("댓글"));
+		Long commentId = lastCommentId();
+		commentService.saveReComment(postId, commentId, new CommentSaveDto("대댓글1"));
+		Long reComment1Id = lastCommentId();
+		commentService.saveReComment(postId, commentId, new CommentSaveDto("대댓글2"));
+		Long reComment2Id = lastCommentId();
+		commentService.save(postId, new CommentSaveDto("다른 댓글"));
+		Long otherCommentId = lastCommentId();
+		clear();
+		
+		assertThat(postRepository.findById(postId).orElseThrow().getCommentCount()).isEqualTo(4);
+		assertThat(commentRepository.findById(commentId).orElseThrow().getReCommentCount()).isEqualTo(2);
+		
+		// when: 대댓글이 남아있으면 삭제 표시만
+		commentService.remove(commentId);
+		clear();
+		commentService.remove(reComment1Id);
+		clear();
+		
+		// then
+		assertThat(commentRepository.findById(commentId).orElseThrow().isRemoved()).isTrue();
+		assertThat(commentRepository.findById(reComment1Id).orElseThrow().isRemoved()).isTrue();
+		assertThat(commentRepository.findById(commentId).orElseThrow().getReCommentCount()).isEqualTo(1);
+		assertThat(postRepository.findById(postId).orElseThrow().getCommentCount()).isEqualTo(2);
+		
+		// when: 마지막 대댓글 삭제 -> 서브트리 전체 삭제
+		commentService.remove(reComment2Id);
+		clear();
+		
+		// then
+		assertThat(commentRepository.findById(commentId)).isEmpty();
+		assertThat(commentRepository.findById(reComment1Id)).isEmpty();
+		assertThat(commentRepository.findById(reComment2Id)).isEmpty();
+		assertThat(commentRepository.findById(otherCommentId)).isPresent();
+		assertThat(postRepository.findById(postId).orElseThrow().getCommentCount()).isEqualTo(1);
+	}
+}
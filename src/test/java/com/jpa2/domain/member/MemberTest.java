@@ -0,0 +1,32 @@
+package com.jpa2.domain.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class MemberTest {
+
+//	탈퇴: 탈퇴 상태가 되고, 아이디가 바뀌고, 인증 정보 버전이 올라감
+	@Test
+	public void 회원탈퇴() throws Exception {
+		// given
+		Member member = Member.builder()
+				.username("username")
+				.password("1234567890")
+				.name("name")
+				.nickName("nickName")
+				.role(Role.USER)
+				.age(20)
+				.build();
+		long authVersion = member.getAuthVersion();
+		
+		// when
+		member.withdraw();
+		
+		// then
+		assertThat(member.isWithdrawn()).isTrue();
+		assertThat(member.getWithdrawnDate()).isNotNull();
+		assertThat(member.getUsername()).startsWith("withdrawn_").hasSizeLessThanOrEqualTo(30);
+		assertThat(member.getAuthVersion()).isEqualTo(authVersion + 1);
+	}
+}
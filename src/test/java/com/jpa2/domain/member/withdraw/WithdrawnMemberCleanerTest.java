@@ -0,0 +1,183 @@
+package com.jpa2.domain.member.withdraw;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jpa2.domain.comment.dto.CommentSaveDto;
+import com.jpa2.domain.comment.repository.CommentRepository;
+import com.jpa2.domain.comment.service.CommentService;
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.post.dto.PostSaveDto;
+import com.jpa2.domain.post.repository.PostRepository;
+import com.jpa2.domain.post.service.PostService;
+import com.jpa2.global.util.security.LoginMember;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 청크 트랜잭션은 테스트 트랜잭션에 참여하므로 테스트가 끝나면 모두 롤백됨
+ * 시작 시 실행(cleanOnStartup)이 잠금을 가지고 있을 수 있으므로 clean() 대신 기다리는 cleanNow()로 실행
+ */
+@SpringBootTest
+@Transactional
+class WithdrawnMemberCleanerTest {
+
+	@Autowired
+	WithdrawnMemberCleaner withdrawnMemberCleaner;
+	
+	@Autowired
+	MemberRepository memberRepository;
+	
+	@Autowired
+	PostRepository postRepository;
+	
+	@Autowired
+	CommentRepository commentRepository;
+	
+	@Autowired
+	PostService postService;
+	
+	@Autowired
+	CommentService commentService;
+	
+	@Autowired
+	EntityManager em;
+	
+	private void clear() {
+		em.flush();
+		em.clear();
+	}
+	
+	private Member saveMember(String username) {
+		return memberRepository.save(Member.builder()
+				.username(username)
+				.password("1234567890")
+				.name("name")
+				.nickName("nickName")
+				.role(Role.USER)
+				.age(20)
+				.build());
+	}
+	
+	private void login(Member member) {
+		SecurityContext context = SecurityContextHolder.createEmptyContext();
+		context.setAuthentication(new UsernamePasswordAuthenticationToken(new LoginMember(member), null));
+		SecurityContextHolder.setContext(context);
+	}
+	
+	private Long savePost(Member writer) throws Exception {
+		login(writer);
+		postService.save(new PostSaveDto("제목", "내용", Optional.empty()));
+		clear();
+		
+		return em.createQuery("select max(p.id) from Post p where p.writer.id = :writerId", Long.class)
+				.setParameter("writerId", writer.getId())
+				.getSingleResult();
+	}
+	
+	private Long saveComment(Member writer, Long postId, Long parentId) {
+		login(writer);
+		if (parentId == null) commentService.save(postId, new CommentSaveDto("댓글"));
+		else commentService.saveReComment(postId, parentId, new CommentSaveDto("대댓글"));
+		clear();
+		
+		return em.createQuery("select max(c.id) from Comment c where c.writer.id = :writerId", Long.class)
+				.setParameter("writerId", writer.getId())
+				.getSingleResult();
+	}
+	
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+	
+	//== Test ==//
+	
+//	탈퇴 회원의 게시글(+ 달린 댓글), 댓글(+ 달린 대댓글), 대댓글을 삭제하고 남은 게시글/댓글의 댓글 수를 줄임
+//	회원 행은 AccessToken 유효 기간 동안 남음 (MemberVersionRevocations가 재시작 시 읽어옴)
+	@Test
+	public void 탈퇴회원_삭제() throws Exception {
+		// given
+		Member withdrawing = saveMember("withdrawing");
+		Member other = saveMember("otherMember");
+		
+		Long myPost = savePost(withdrawing);
+		Long otherPost = savePost(other);
+		
+		Long commentOnMyPost = saveComment(other, myPost, null);
+		Long otherComment = saveComment(other, otherPost, null); // 남음
+		Long myComment = saveComment(withdrawing, otherPost, null);
+		Long myReply = saveComment(withdrawing, otherPost, otherComment);
+		Long replyOnMyComment = saveComment(other, otherPost, myComment);
+		
+		em.find(Member.class, withdrawing.getId()).withdraw();
+		clear();
+		
+		// when
+		withdrawnMemberCleaner.cleanNow();
+		clear();
+		
+		// then
+		assertThat(memberRepository.findById(withdrawing.getId()).orElseThrow().isWithdrawn()).isTrue();
+		assertThat(postRepository.findById(myPost)).isEmpty();
+		assertThat(commentRepository.findById(commentOnMyPost)).isEmpty();
+		assertThat(commentRepository.findById(myComment)).isEmpty();
+		assertThat(commentRepository.findById(myReply)).isEmpty();
+		assertThat(commentRepository.findById(replyOnMyComment)).isEmpty();
+		
+		assertThat(memberRepository.findById(other.getId())).isPresent();
+		assertThat(postRepository.findById(otherPost).orElseThrow().getCommentCount()).isEqualTo(1); // otherComment만 남음
+		assertThat(commentRepository.findById(otherComment).orElseThrow().getReCommentCount()).isZero();
+	}
+	
+//	AccessToken 유효 기간이 지난 탈퇴 회원은 회원 행까지 삭제
+	@Test
+	public void 탈퇴회원_행_삭제() throws Exception {
+		// given
+		Member withdrawing = saveMember("withdrawing");
+		em.find(Member.class, withdrawing.getId()).withdraw();
+		clear();
+		
+		em.createQuery("update Member m set m.withdrawnDate = :withdrawnDate where m.id = :id")
+				.setParameter("withdrawnDate", LocalDateTime.now().minusDays(30))
+				.setParameter("id", withdrawing.getId())
+				.executeUpdate();
+		clear();
+		
+		// when
+		withdrawnMemberCleaner.cleanNow();
+		clear();
+		
+		// then
+		assertThat(memberRepository.findById(withdrawing.getId())).isEmpty();
+	}
+	
+//	탈퇴하지 않은 회원은 삭제하지 않음
+	@Test
+	public void 탈퇴하지_않은_회원() throws Exception {
+		// given
+		Member member = saveMember("notWithdrawn");
+		Long post = savePost(member);
+		
+		// when
+		withdrawnMemberCleaner.cleanNow();
+		clear();
+		
+		// then
+		assertThat(memberRepository.findById(member.getId())).isPresent();
+		assertThat(postRepository.findById(post)).isPresent();
+	}
+}
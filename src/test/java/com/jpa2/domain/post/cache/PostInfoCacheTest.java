@@ -0,0 +1,72 @@
+package com.jpa2.domain.post.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.jpa2.domain.post.dto.PostInfoDto;
+
+class PostInfoCacheTest {
+
+	private PostInfoCache postInfoCache;
+	private AtomicInteger loadCount;
+	
+	@BeforeEach
+	void init() {
+		postInfoCache = new PostInfoCache(100, 60);
+		loadCount = new AtomicInteger();
+	}
+	
+	private PostInfoDto get(Long postId) {
+		return postInfoCache.get(postId, () -> {
+			loadCount.incrementAndGet();
+			return new PostInfoDto();
+		});
+	}
+	
+//	같은 게시글은 한 번만 조회
+	@Test
+	public void 캐시_적중() throws Exception {
+		get(1L);
+		get(1L);
+		
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+	
+//	조회 도중 같은 게시글이 무효화되면 결과를 캐시하지 않음
+	@Test
+	public void 조회_중_무효화() throws Exception {
+		// given
+		postInfoCache.get(1L, () -> {
+			loadCount.incrementAndGet();
+			postInfoCache.invalidate(1L); // 조회 도중 수정됨
+			return new PostInfoDto();
+		});
+		
+		// when
+		get(1L);
+		
+		// then
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+	
+//	조회 도중 다른 게시글이 무효화되어도 결과는 캐시됨
+	@Test
+	public void 다른_게시글_무효화() throws Exception {
+		// given
+		postInfoCache.get(1L, () -> {
+			loadCount.incrementAndGet();
+			postInfoCache.invalidate(2L);
+			return new PostInfoDto();
+		});
+		
+		// when
+		get(1L);
+		
+		// then
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+}
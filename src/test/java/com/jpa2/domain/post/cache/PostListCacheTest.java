@@ -0,0 +1,62 @@
+package com.jpa2.domain.post.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import com.jpa2.domain.post.cond.PostCountStrategy;
+import com.jpa2.domain.post.cond.PostSearchCondition;
+import com.jpa2.domain.post.dto.PostPagingDto;
+
+class PostListCacheTest {
+
+	private PostListCache postListCache;
+	private AtomicInteger loadCount;
+	
+	@BeforeEach
+	void init() {
+		postListCache = new PostListCache(100, 60);
+		loadCount = new AtomicInteger();
+	}
+	
+	private PostPagingDto get(String title) {
+		PostSearchCondition condition = new PostSearchCondition();
+		condition.setTitle(title);
+		
+		return postListCache.get(condition, PageRequest.of(0, 20), PostCountStrategy.EXACT, () -> {
+			loadCount.incrementAndGet();
+			return new PostPagingDto();
+		});
+	}
+	
+//	같은 키는 한 번만 조회
+	@Test
+	public void 캐시_적중() throws Exception {
+		get("스프링");
+		get("스프링");
+		
+		assertThat(loadCount.get()).isEqualTo(1);
+		assertThat(postListCache.getStats().hitCount()).isEqualTo(1);
+		assertThat(postListCache.getStats().missCount()).isEqualTo(1);
+	}
+	
+//	게시글이 검색 조건에 걸리는 엔트리만 무효화
+	@Test
+	public void 캐시_조건별_무효화() throws Exception {
+		get(null); // 조건 없음
+		get("스프링");
+		get("파이썬");
+		
+		postListCache.invalidate("스프링 부트 시작하기", "내용");
+		
+		get(null);
+		get("스프링");
+		get("파이썬");
+		
+		assertThat(loadCount.get()).isEqualTo(5); // 조건 없음, "스프링"만 다시 조회
+	}
+}
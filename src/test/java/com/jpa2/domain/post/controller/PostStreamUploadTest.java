@@ -0,0 +1,168 @@
+package com.jpa2.domain.post.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.post.Post;
+import com.jpa2.domain.post.repository.PostRepository;
+import com.jpa2.global.jwt.service.JwtService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * POST /post/stream: 요청 본문 -> MultipartUploadReader -> 검증 -> 게시글 저장까지
+ * 파일은 임시 디렉터리(file.dir)에 저장
+ */
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc
+class PostStreamUploadTest {
+	
+	private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+	
+	@TempDir
+	static Path fileDir;
+	
+	@DynamicPropertySource
+	static void fileDir(DynamicPropertyRegistry registry) {
+		registry.add("file.dir", () -> fileDir.toString() + File.separator);
+	}
+	
+	@Autowired
+	MockMvc mockMvc;
+	
+	@Autowired
+	EntityManager em;
+	
+	@Autowired
+	MemberRepository memberRepository;
+	
+	@Autowired
+	PostRepository postRepository;
+	
+	@Autowired
+	JwtService jwtService;
+	
+	final String USERNAME = "streamWriter";
+	
+	@BeforeEach
+	public void signUpMember() {
+		memberRepository.save(Member.builder()
+				.username(USERNAME)
+				.password("1234567890")
+				.name("USER1")
+				.nickName("nickName1")
+				.role(Role.USER)
+				.age(20)
+				.build());
+		em.flush();
+		em.clear();
+	}
+	
+	private String getAccessToken() {
+		return jwtService.createAccessToken(USERNAME);
+	}
+	
+	private int countFiles() {
+		return fileDir.toFile().list().length;
+	}
+	
+	private byte[] body(String title, byte[] file) throws IOException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		if (title != null) {
+			body.write(("--" + BOUNDARY + "\r\n"
+					+ "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+					+ title + "\r\n").getBytes(StandardCharsets.UTF_8));
+		}
+		body.write(("--" + BOUNDARY + "\r\n"
+				+ "Content-Disposition: form-data; name=\"uploadFile\"; filename=\"file.bin\"\r\n"
+				+ "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+		body.write(file);
+		body.write(("\r\n--" + BOUNDARY + "\r\n"
+				+ "Content-Disposition: form-data; name=\"content\"\r\n\r\n"
+				+ "내용\r\n"
+				+ "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+		return body.toByteArray();
+	}
+	
+	/**
+	 * 게시글 저장 성공 (파일 포함)
+	 */
+	@Test
+	public void 스트림_게시글_저장_성공() throws Exception {
+		// given
+		byte[] file = new byte[100_000];
+		new Random(0).nextBytes(file);
+		String digest = "sha-256=:" + Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(file)) + ":";
+		
+		// when
+		mockMvc.perform(
+				post("/post/stream")
+					.header("Authorization", "Bearer " + getAccessToken())
+					.contentType("multipart/form-data; boundary=" + BOUNDARY)
+					.content(body("제목", file))
+		)
+		.andExpect(status().isCreated())
+		.andExpect(header().string("Repr-Digest", digest));
+		
+		// then
+		em.clear();
+		List<Post> posts = postRepository.findAll();
+		assertThat(posts).hasSize(1);
+		assertThat(posts.get(0).getTitle()).isEqualTo("제목");
+		assertThat(posts.get(0).getContent()).isEqualTo("내용");
+		assertThat(Files.readAllBytes(Path.of(posts.get(0).getFilePath()))).isEqualTo(file);
+		
+		// finally
+		Files.delete(Path.of(posts.get(0).getFilePath()));
+	}
+	
+	/**
+	 * 게시글 저장 실패: 제목이 없으면 400, 먼저 저장한 파일은 삭제
+	 */
+	@Test
+	public void 스트림_게시글_저장_실패_제목없음() throws Exception {
+		// given
+		int files = countFiles();
+		
+		// when
+		mockMvc.perform(
+				post("/post/stream")
+					.header("Authorization", "Bearer " + getAccessToken())
+					.contentType("multipart/form-data; boundary=" + BOUNDARY)
+					.content(body(null, new byte[1000]))
+		)
+		.andExpect(status().isBadRequest());
+		
+		// then
+		assertThat(postRepository.findAll()).isEmpty();
+		assertThat(countFiles()).isEqualTo(files);
+	}
+}
@@ -0,0 +1,117 @@
+package com.jpa2.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.post.Post;
+import com.jpa2.domain.post.cond.PostCountStrategy;
+import com.jpa2.domain.post.cond.PostSearchCondition;
+import com.jpa2.domain.post.dto.BriefPostInfo;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 검색 색인은 커밋 후에 갱신되므로 끄고, 테스트 트랜잭션에서 저장한 게시글을 LIKE + COUNT 쿼리로 검색
+ */
+@SpringBootTest(properties = "post.search-index.enabled=false")
+@Transactional
+class CustomPostRepositoryTest {
+
+	@Autowired
+	PostRepository postRepository;
+	
+	@Autowired
+	MemberRepository memberRepository;
+	
+	@Autowired
+	EntityManager em;
+	
+	private static final String KEYWORD = "카운트검색";
+	private static final int MATCHING = 25;
+	private static final int OTHERS = 5;
+	
+	@BeforeEach
+	void setUp() {
+		Member writer = memberRepository.save(Member.builder()
+				.username("countWriter")
+				.password("1234567890")
+				.name("name")
+				.nickName("nickName")
+				.role(Role.USER)
+				.age(20)
+				.build());
+		
+		List<Post> posts = new ArrayList<>();
+		for (int i = 1; i <= MATCHING; i++) {
+			posts.add(new Post(KEYWORD + " " + i, "내용 " + i));
+		}
+		for (int i = 1; i <= OTHERS; i++) {
+			posts.add(new Post("다른 제목 " + i, "내용 " + i));
+		}
+		posts.forEach(post -> post.confirmWriter(writer));
+		postRepository.saveAll(posts);
+		
+		em.flush();
+		em.clear();
+	}
+	
+	private PostSearchCondition titleCondition() {
+		PostSearchCondition condition = new PostSearchCondition();
+		condition.setTitle(KEYWORD);
+		return condition;
+	}
+	
+	//== Test ==//
+	
+//	첫 페이지가 가득 차면 COUNT 쿼리로 조건에 맞는 전체 개수를 구함
+	@Test
+	public void 검색_전체개수_EXACT() throws Exception {
+		// when
+		Page<Post> page = postRepository.search(titleCondition(), PageRequest.of(0, 10), PostCountStrategy.EXACT);
+		Page<BriefPostInfo> briefPage = postRepository.searchBriefPostInfo(titleCondition(), PageRequest.of(0, 10), PostCountStrategy.EXACT);
+		
+		// then
+		assertThat(page.getContent()).hasSize(10);
+		assertThat(page.getTotalElements()).isEqualTo(MATCHING);
+		assertThat(page.getTotalPages()).isEqualTo(3);
+		assertThat(briefPage.getTotalElements()).isEqualTo(MATCHING);
+	}
+	
+//	ESTIMATED도 처음에는 COUNT 쿼리 결과를 사용
+	@Test
+	public void 검색_전체개수_ESTIMATED() throws Exception {
+		// when
+		Page<Post> page = postRepository.search(titleCondition(), PageRequest.of(1, 10), PostCountStrategy.ESTIMATED);
+		
+		// then
+		assertThat(page.getContent()).hasSize(10);
+		assertThat(page.getTotalElements()).isEqualTo(MATCHING);
+	}
+	
+//	조건 없이 검색하면 모든 게시글을 셈
+	@Test
+	public void 검색_조건없음() throws Exception {
+		// given
+		long total = postRepository.count();
+		
+		// when
+		Page<Post> page = postRepository.search(new PostSearchCondition(), PageRequest.of(0, 10), PostCountStrategy.EXACT);
+		
+		// then
+		assertThat(page.getTotalElements()).isEqualTo(total);
+		assertThat(total).isGreaterThanOrEqualTo(MATCHING + OTHERS);
+	}
+}
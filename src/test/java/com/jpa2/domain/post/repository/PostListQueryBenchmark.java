@@ -0,0 +1,129 @@
+package com.jpa2.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.post.Post;
+import com.jpa2.domain.post.cond.PostCountStrategy;
+import com.jpa2.domain.post.cond.PostSearchCondition;
+import com.jpa2.domain.post.dto.BriefPostInfo;
+import com.jpa2.domain.post.dto.PostPagingDto;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 게시글 목록 조회: 엔티티 조회 vs 컬럼 조회(Projection) 비교
+ * 
+ * 전송량: MariaDB 세션 상태의 BYTES_SENT(서버 -> 클라이언트) 증가량
+ * 힙 사용량: 현재 스레드가 할당한 바이트 수 (com.sun.management.ThreadMXBean)
+ * 
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+class PostListQueryBenchmark {
+
+	@Autowired
+	private EntityManager em;
+	
+	@Autowired
+	private PostRepository postRepository;
+	
+	@Autowired
+	private MemberRepository memberRepository;
+	
+	private static final int POST_COUNT = 1_000;
+	private static final int CONTENT_LENGTH = 20_000; // 게시글 1개당 본문 길이
+	private static final int PAGE_SIZE = 100;
+	private static final int ROUNDS = 20;
+	
+	@BeforeEach
+	void setUp() {
+		Member writer = memberRepository.save(Member.builder()
+				.username("benchmark")
+				.password("1234567890")
+				.name("BENCH")
+				.nickName("BENCH")
+				.role(Role.USER)
+				.age(20)
+				.build());
+		
+		String content = "가".repeat(CONTENT_LENGTH);
+		for (int i = 1; i <= POST_COUNT; i++) {
+			Post post = Post.builder().title("게시글" + i).content(content).build();
+			post.confirmWriter(writer);
+			em.persist(post);
+		}
+		em.flush();
+		em.clear();
+	}
+	
+	@Test
+	public void 목록조회_엔티티_vs_프로젝션() throws Exception {
+		PostSearchCondition condition = new PostSearchCondition();
+		PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
+		
+		// warm-up
+		for (int i = 0; i < 3; i++) {
+			new PostPagingDto(postRepository.search(condition, pageRequest, PostCountStrategy.EXACT));
+			postRepository.searchBriefPostInfo(condition, pageRequest, PostCountStrategy.EXACT);
+			em.clear();
+		}
+		
+		Result entity = measure("entity", () -> new PostPagingDto(postRepository.search(condition, pageRequest, PostCountStrategy.EXACT)).getSimpleLectureDtoList());
+		Result projection = measure("projection", () -> postRepository.searchBriefPostInfo(condition, pageRequest, PostCountStrategy.EXACT).getContent());
+		
+		System.out.println(entity);
+		System.out.println(projection);
+		
+		assertThat(projection.bytesSent()).isLessThan(entity.bytesSent());
+	}
+	
+	private Result measure(String name, Supplier<List<BriefPostInfo>> listQuery) {
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		
+		long bytesSentBefore = bytesSent();
+		long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		
+		for (int i = 0; i < ROUNDS; i++) {
+			assertThat(listQuery.get()).hasSize(PAGE_SIZE);
+			em.clear(); // 영속성 컨텍스트에 남은 엔티티를 재사용하지 않도록
+		}
+		
+		long elapsed = System.nanoTime() - start;
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		long sent = bytesSent() - bytesSentBefore;
+		
+		return new Result(name, sent / ROUNDS, allocated / ROUNDS, elapsed / ROUNDS / 1_000);
+	}
+	
+	private long bytesSent() {
+		Object value = em.createNativeQuery("SELECT VARIABLE_VALUE FROM information_schema.SESSION_STATUS WHERE VARIABLE_NAME = 'BYTES_SENT'")
+				.getSingleResult();
+		return Long.parseLong(value.toString());
+	}
+	
+	private record Result(String name, long bytesSent, long allocatedBytes, long micros) {
+		@Override
+		public String toString() {
+			return String.format("[%-10s] 페이지당 전송량: %,d bytes, 힙 할당량: %,d bytes, 소요 시간: %,d us", name, bytesSent, allocatedBytes, micros);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package com.jpa2.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.post.Post;
+import com.jpa2.domain.post.cond.PostCountStrategy;
+import com.jpa2.domain.post.cond.PostSearchCondition;
+import com.jpa2.domain.post.cond.PostSearchExecution;
+import com.jpa2.domain.post.dto.BriefPostInfo;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 게시글 검색: 목록 쿼리와 COUNT 쿼리의 순차 실행 vs 동시 실행 지연시간 비교
+ * 
+ * COUNT 쿼리는 별도의 커넥션에서 실행되므로 테스트 트랜잭션으로 감싸지 않고
+ * 데이터를 커밋한 뒤 테스트가 끝나면 직접 삭제함
+ * postRepository.saveAll은 검색 색인을 갱신하지 않으므로 색인을 끄고 LIKE 검색으로 측정
+ * 
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "post.search-index.enabled=false")
+class PostSearchExecutionBenchmark {
+
+	@Autowired
+	private PostRepository postRepository;
+	
+	@Autowired
+	private MemberRepository memberRepository;
+	
+	@Autowired
+	private EntityManager em;
+	
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	
+	private static final int POST_COUNT = 20_000;
+	private static final int ROUNDS = 50;
+	
+	private Member writer;
+	
+	@BeforeEach
+	void setUp() {
+		writer = memberRepository.save(Member.builder()
+				.username("benchmark")
+				.password("1234567890")
+				.name("BENCH")
+				.nickName("BENCH")
+				.role(Role.USER)
+				.age(20)
+				.build());
+		
+		List<Post> posts = new ArrayList<>();
+		for (int i = 1; i <= POST_COUNT; i++) {
+			Post post = Post.builder().title("게시글" + i).content("벤치마크 내용 " + i + " ".repeat(500)).build();
+			post.confirmWriter(writer);
+			posts.add(post);
+		}
+		postRepository.saveAll(posts);
+	}
+	
+	@AfterEach
+	void tearDown() {
+		transactionTemplate.executeWithoutResult(status -> em.createQuery("delete from Post p where p.writer.id = :writerId") // 이 벤치마크에서 만든 게시글만
+				.setParameter("writerId", writer.getId())
+				.executeUpdate());
+		memberRepository.deleteAllInBatch(List.of(writer));
+	}
+	
+	@Test
+	public void 검색_순차실행_vs_동시실행() throws Exception {
+		PostSearchCondition condition = new PostSearchCondition();
+		condition.setContent("내용"); // LIKE 조건이 걸려 COUNT도 목록 쿼리만큼 비용이 드는 경우
+		PageRequest pageRequest = PageRequest.of(1, 20);
+		
+		// warm-up
+		for (int i = 0; i < 5; i++) {
+			search(condition, pageRequest, PostSearchExecution.SEQUENTIAL);
+			search(condition, pageRequest, PostSearchExecution.CONCURRENT);
+		}
+		
+		long[] sequential = measure(condition, pageRequest, PostSearchExecution.SEQUENTIAL);
+		long[] concurrent = measure(condition, pageRequest, PostSearchExecution.CONCURRENT);
+		
+		print("SEQUENTIAL", sequential);
+		print("CONCURRENT", concurrent);
+	}
+	
+	private long[] measure(PostSearchCondition condition, PageRequest pageRequest, PostSearchExecution execution) {
+		long[] elapsed = new long[ROUNDS];
+		
+		for (int i = 0; i < ROUNDS; i++) {
+			long start = System.nanoTime();
+			Page<BriefPostInfo> page = search(condition, pageRequest, execution);
+			elapsed[i] = (System.nanoTime() - start) / 1_000;
+			
+			assertThat(page.getTotalElements()).isGreaterThanOrEqualTo(POST_COUNT);
+		}
+		Arrays.sort(elapsed);
+		return elapsed;
+	}
+	
+	private Page<BriefPostInfo> search(PostSearchCondition condition, PageRequest pageRequest, PostSearchExecution execution) {
+		return postRepository.searchBriefPostInfo(condition, pageRequest, PostCountStrategy.EXACT, execution);
+	}
+	
+	private void print(String name, long[] sortedMicros) {
+		System.out.printf("[%-10s] p50: %,d us, p95: %,d us, max: %,d us%n", name,
+				sortedMicros[sortedMicros.length / 2],
+				sortedMicros[(int) (sortedMicros.length * 0.95)],
+				sortedMicros[sortedMicros.length - 1]);
+	}
+}
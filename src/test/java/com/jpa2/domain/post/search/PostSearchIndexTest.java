@@ -0,0 +1,57 @@
+package com.jpa2.domain.post.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PostSearchIndexTest {
+
+	private PostSearchIndex postSearchIndex;
+	
+	@BeforeEach
+	void init() {
+		postSearchIndex = new PostSearchIndex(true);
+		
+		postSearchIndex.index(1L, "스프링 데이터 JPA", "쿼리DSL로 동적 쿼리 작성하기");
+		postSearchIndex.index(2L, "스프링 시큐리티", "JWT 인증 필터 구현");
+		postSearchIndex.index(3L, "JPA 기본편", "영속성 컨텍스트와 쿼리");
+		postSearchIndex.markReady();
+	}
+	
+//	제목 bigram 검색
+	@Test
+	public void 색인_제목_검색() throws Exception {
+		assertThat(postSearchIndex.findCandidates("스프링", null)).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(postSearchIndex.findCandidates("jpa", null)).containsExactlyInAnyOrder(1L, 3L); // 대소문자 구분 없음
+		assertThat(postSearchIndex.findCandidates("파이썬", null)).isEmpty();
+	}
+	
+//	제목과 내용 조건은 교집합
+	@Test
+	public void 색인_제목과내용_검색() throws Exception {
+		assertThat(postSearchIndex.findCandidates("JPA", "쿼리")).containsExactlyInAnyOrder(1L, 3L);
+		assertThat(postSearchIndex.findCandidates("스프링", "쿼리")).containsExactly(1L);
+	}
+	
+//	색인으로 판단할 수 없는 경우 null
+	@Test
+	public void 색인_사용불가() throws Exception {
+		assertThat(postSearchIndex.findCandidates(null, null)).isNull();
+		assertThat(postSearchIndex.findCandidates("J", null)).isNull(); // bigram보다 짧은 검색어
+		
+		postSearchIndex.clear();
+		assertThat(postSearchIndex.findCandidates("스프링", null)).isNull(); // 재구성 전
+	}
+	
+//	수정, 삭제 시 기존 bigram 제거
+	@Test
+	public void 색인_수정_삭제() throws Exception {
+		postSearchIndex.index(2L, "스프링 부트", "자동 설정");
+		assertThat(postSearchIndex.findCandidates("시큐리티", null)).isEmpty();
+		assertThat(postSearchIndex.findCandidates("부트", null)).containsExactly(2L);
+		
+		postSearchIndex.remove(1L);
+		assertThat(postSearchIndex.findCandidates("스프링", null)).containsExactly(2L);
+	}
+}
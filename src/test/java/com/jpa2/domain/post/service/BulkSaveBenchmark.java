@@ -0,0 +1,156 @@
+package com.jpa2.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jpa2.domain.comment.dto.CommentSaveDto;
+import com.jpa2.domain.comment.service.CommentService;
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.post.dto.PostSaveDto;
+import com.jpa2.global.util.security.LoginMember;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 게시글/댓글 여러 개 등록: 한 건씩 INSERT vs JDBC 배치 INSERT 비교 (초당 저장 행 수)
+ * 
+ * 한 건씩: 세션의 JDBC 배치 크기를 1로 지정 (IDENTITY를 사용하던 때처럼 INSERT마다 DB 왕복)
+ * 배치: 설정된 hibernate.jdbc.batch_size 사용
+ * 
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+class BulkSaveBenchmark {
+
+	@Autowired
+	private EntityManager em;
+	
+	@Autowired
+	private PostService postService;
+	
+	@Autowired
+	private CommentService commentService;
+	
+	@Autowired
+	private MemberRepository memberRepository;
+	
+	private static final String USERNAME = "benchmark";
+	private static final int ROWS = 5_000;
+	private static final int WARM_UP_ROWS = 500;
+	
+	@BeforeEach
+	void setUp() {
+		Member member = memberRepository.save(Member.builder()
+				.username(USERNAME)
+				.password("1234567890")
+				.name("BENCH")
+				.nickName("BENCH")
+				.role(Role.USER)
+				.age(20)
+				.build());
+		
+		SecurityContext context = SecurityContextHolder.createEmptyContext();
+		context.setAuthentication(new UsernamePasswordAuthenticationToken(
+				new LoginMember(member), null));
+		SecurityContextHolder.setContext(context);
+		
+		em.flush();
+		em.clear();
+	}
+	
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+	
+	@Test
+	public void 게시글_여러개_등록_한건씩_vs_배치() throws Exception {
+		List<PostSaveDto> posts = IntStream.rangeClosed(1, ROWS)
+				.mapToObj(i -> new PostSaveDto("게시글" + i, "내용" + i, Optional.empty()))
+				.toList();
+		
+		postService.saveAll(posts.subList(0, WARM_UP_ROWS)); // warm-up
+		em.flush();
+		em.clear();
+		
+		Result single = measure("single", 1, () -> postService.saveAll(posts));
+		Result batch = measure("batch", null, () -> postService.saveAll(posts));
+		
+		System.out.println(single);
+		System.out.println(batch);
+		
+		assertThat(batch.rowsPerSecond()).isGreaterThan(single.rowsPerSecond());
+	}
+	
+	@Test
+	public void 댓글_여러개_등록_한건씩_vs_배치() throws Exception {
+		Long postId = postService.saveAll(List.of(new PostSaveDto("게시글", "내용", Optional.empty()))).get(0);
+		em.flush();
+		em.clear();
+		
+		List<CommentSaveDto> comments = IntStream.rangeClosed(1, ROWS)
+				.mapToObj(i -> new CommentSaveDto("댓글" + i))
+				.toList();
+		
+		commentService.saveAll(postId, comments.subList(0, WARM_UP_ROWS)); // warm-up
+		em.flush();
+		em.clear();
+		
+		Result single = measure("single", 1, () -> commentService.saveAll(postId, comments));
+		Result batch = measure("batch", null, () -> commentService.saveAll(postId, comments));
+		
+		System.out.println(single);
+		System.out.println(batch);
+		
+		assertThat(batch.rowsPerSecond()).isGreaterThan(single.rowsPerSecond());
+	}
+	
+	/**
+	 * @param jdbcBatchSize 세션의 JDBC 배치 크기 (null이면 설정값)
+	 */
+	private Result measure(String name, Integer jdbcBatchSize, Supplier<List<Long>> bulkSave) {
+		em.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+		
+		long start = System.nanoTime();
+		List<Long> ids = bulkSave.get();
+		em.flush(); // 마지막 청크까지 INSERT
+		long elapsed = System.nanoTime() - start;
+		
+		em.clear();
+		em.unwrap(Session.class).setJdbcBatchSize(null);
+		
+		assertThat(ids).hasSize(ROWS);
+		return new Result(name, ROWS, elapsed);
+	}
+	
+	private record Result(String name, int rows, long nanos) {
+		long rowsPerSecond() {
+			return rows * 1_000_000_000L / nanos;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("[%-6s] %,d행 저장: %,d ms, 초당 %,d행", name, rows, nanos / 1_000_000, rowsPerSecond());
+		}
+	}
+}
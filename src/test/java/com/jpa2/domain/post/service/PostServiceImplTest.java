@@ -21,12 +21,13 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jpa2.domain.comment.Comment;
 import com.jpa2.domain.comment.dto.CommentInfoDto;
+import com.jpa2.domain.comment.dto.ReCommentPagingDto;
 import com.jpa2.domain.comment.repository.CommentRepository;
+import com.jpa2.domain.comment.service.CommentService;
 import com.jpa2.domain.member.Member;
 import com.jpa2.domain.member.Role;
 import com.jpa2.domain.member.dto.MemberSignUpDto;
@@ -34,12 +35,14 @@ import com.jpa2.domain.member.repository.MemberRepository;
 import com.jpa2.domain.member.serivce.MemberService;
 import com.jpa2.domain.post.Post;
 import com.jpa2.domain.post.cond.PostSearchCondition;
+import com.jpa2.domain.post.dto.PostCursorPagingDto;
 import com.jpa2.domain.post.dto.PostInfoDto;
 import com.jpa2.domain.post.dto.PostPagingDto;
 import com.jpa2.domain.post.dto.PostSaveDto;
 import com.jpa2.domain.post.dto.PostUpdateDto;
 import com.jpa2.domain.post.exception.PostException;
 import com.jpa2.domain.post.repository.PostRepository;
+import com.jpa2.global.util.security.LoginMember;
 
 import jakarta.persistence.EntityManager;
 
@@ -65,6 +68,9 @@ class PostServiceImplTest {
 	@Autowired
 	private CommentRepository commentRepository;
 	
+	@Autowired
+	private CommentService commentService;
+	
 	private static final String USERNAME = "username";
 	private static final String PASSWORD = "PASSWORD123@@@";
 	
@@ -95,11 +101,7 @@ class PostServiceImplTest {
 		SecurityContext emptyContext = SecurityContextHolder.createEmptyContext();
 		emptyContext.setAuthentication( // 인증 정보 설정
 				new UsernamePasswordAuthenticationToken(
-						User.builder()
-						.username(USERNAME)
-						.password(PASSWORD)
-						.roles(Role.USER.toString())
-						.build(),
+						new LoginMember(memberRepository.findByUsername(USERNAME).orElseThrow()),
 					null)
 		);
 		// SecurityContextHolder에 생성한 SecurityContext 설정
@@ -277,11 +279,7 @@ class PostServiceImplTest {
 		SecurityContext emptyContext = SecurityContextHolder.createEmptyContext();
 		emptyContext.setAuthentication(
 				new UsernamePasswordAuthenticationToken(
-						User.builder()
-						.username(USERNAME + "123")
-						.password(PASSWORD)
-						.roles(Role.USER.toString())
-						.build(),
+						new LoginMember(memberRepository.findByUsername(USERNAME + "123").orElseThrow()),
 					null
 				)
 		);
@@ -413,6 +411,14 @@ class PostServiceImplTest {
 		int recommentCount = 0;
 		for (CommentInfoDto commentInfoDto : postInfo.getCommentInfoDtoList()) {
 			recommentCount += commentInfoDto.getReCommentListDtoList().size();
+			
+			// 상세 조회에는 앞쪽 대댓글만 포함되므로 나머지는 커서로 이어서 조회
+			Long cursor = commentInfoDto.getReCommentNextCursor();
+			while (cursor != null) {
+				ReCommentPagingDto reCommentPage = commentService.getReCommentList(commentInfoDto.getCommentId(), cursor, 20);
+				recommentCount += reCommentPage.getCurrentPageElementCount();
+				cursor = reCommentPage.getNextCursor();
+			}
 		}
 		
 		assertThat(postInfo.getCommentInfoDtoList().size()).isEqualTo(COMMENT_COUNT);
@@ -664,4 +670,54 @@ class PostServiceImplTest {
 		assertThat(postList.getCurrentPageNum()).isEqualTo(PAGE);
 		assertThat(postList.getCurrentPageElementCount()).isEqualTo(SIZE);
 	}
+	
+//	커서 페이징 검색
+//	@Test
+	public void 포스트_검색_커서페이징() throws Exception {
+		// given
+		Member member1 = memberRepository.save(Member.builder()
+				.username("username1")
+				.password("1234567890")
+				.name("USER1")
+				.nickName("nickName1")
+				.role(Role.USER)
+				.age(20)
+				.build());
+		
+		final int POST_COUNT = 50;
+		for (int i=1; i<=POST_COUNT; i++) {
+			Post post = Post.builder()
+					.title("게시글" + i)
+					.content("내용" + i)
+					.build();
+			post.confirmWriter(member1);
+			
+			postRepository.save(post);
+		}
+		clear();
+		
+		final int SIZE = 20;
+		PostSearchCondition postSearchCondition = new PostSearchCondition();
+		
+		// when
+		PostCursorPagingDto firstPage = postService.getPostListByCursor(null, SIZE, postSearchCondition);
+		PostCursorPagingDto secondPage = postService.getPostListByCursor(firstPage.getNextCursor(), SIZE, postSearchCondition);
+		PostCursorPagingDto lastPage = postService.getPostListByCursor(secondPage.getNextCursor(), SIZE, postSearchCondition);
+		PostCursorPagingDto backToSecond = postService.getPostListByCursor(lastPage.getPrevCursor(), SIZE, postSearchCondition);
+		
+		// then
+		assertThat(firstPage.getCurrentPageElementCount()).isEqualTo(SIZE);
+		assertThat(firstPage.isHasPrev()).isFalse();
+		assertThat(firstPage.isHasNext()).isTrue();
+		
+		assertThat(secondPage.getCurrentPageElementCount()).isEqualTo(SIZE);
+		assertThat(secondPage.getSimpleLectureDtoList().get(0).getPostId())
+				.isLessThan(firstPage.getSimpleLectureDtoList().get(SIZE - 1).getPostId());
+		
+		assertThat(lastPage.getCurrentPageElementCount()).isEqualTo(POST_COUNT - SIZE * 2);
+		assertThat(lastPage.isHasNext()).isFalse();
+		assertThat(lastPage.getNextCursor()).isNull();
+		
+		assertThat(backToSecond.getSimpleLectureDtoList()).isEqualTo(secondPage.getSimpleLectureDtoList());
+	}
 }
\ No newline at end of file
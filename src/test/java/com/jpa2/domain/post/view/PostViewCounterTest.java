@@ -0,0 +1,130 @@
+package com.jpa2.domain.post.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.post.Post;
+import com.jpa2.domain.post.repository.PostRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * flush의 배치 트랜잭션은 테스트 트랜잭션에 참여하므로 반영한 조회수도 테스트가 끝나면 롤백됨
+ * 빈은 스케줄러가 다른 스레드(트랜잭션)에서 flush 할 수 있으므로 테스트용 인스턴스를 따로 만들어 사용
+ */
+@SpringBootTest
+@Transactional
+class PostViewCounterTest {
+
+	@Autowired
+	PostRepository postRepository;
+	
+	@Autowired
+	MemberRepository memberRepository;
+	
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+	
+	@Autowired
+	PlatformTransactionManager transactionManager;
+	
+	@Autowired
+	EntityManager em;
+	
+	private PostViewCounter postViewCounter;
+	
+	private Long first;
+	private Long second;
+	
+	@BeforeEach
+	void setUp() {
+		postViewCounter = new PostViewCounter(jdbcTemplate, transactionManager, 10_000, 500);
+		
+		Member writer = memberRepository.save(Member.builder()
+				.username("viewWriter")
+				.password("1234567890")
+				.name("name")
+				.nickName("nickName")
+				.role(Role.USER)
+				.age(20)
+				.build());
+		
+		Post firstPost = new Post("제목1", "내용1");
+		Post secondPost = new Post("제목2", "내용2");
+		firstPost.confirmWriter(writer);
+		secondPost.confirmWriter(writer);
+		first = postRepository.save(firstPost).getId();
+		second = postRepository.save(secondPost).getId();
+		
+		em.flush(); // JDBC UPDATE 전에 INSERT 반영
+		em.clear();
+	}
+	
+	private long viewCount(Long postId) {
+		em.clear();
+		return postRepository.findById(postId).orElseThrow().getViewCount();
+	}
+	
+	//== Test ==//
+	
+//	누적된 조회수를 게시글별로 DB에 더함
+	@Test
+	public void 조회수_반영() throws Exception {
+		// given
+		for (int i = 0; i < 3; i++) {
+			postViewCounter.increment(first);
+		}
+		postViewCounter.increment(second);
+		assertThat(viewCount(first)).isZero(); // 반영 전
+		
+		// when
+		postViewCounter.flush();
+		
+		// then
+		assertThat(viewCount(first)).isEqualTo(3);
+		assertThat(viewCount(second)).isEqualTo(1);
+	}
+	
+//	반영한 증가분은 초기화되어 다음 flush에서 다시 더하지 않음
+	@Test
+	public void 반영후_초기화() throws Exception {
+		// given
+		postViewCounter.increment(first);
+		postViewCounter.flush();
+		
+		// when
+		postViewCounter.flush();
+		postViewCounter.increment(first);
+		postViewCounter.flush();
+		
+		// then
+		assertThat(viewCount(first)).isEqualTo(2);
+	}
+	
+//	누적 중인 게시글 수가 한도에 차면 새 게시글의 조회는 버리고, 이미 누적 중인 게시글은 계속 누적
+	@Test
+	public void 누적_한도() throws Exception {
+		// given
+		PostViewCounter limitedCounter = new PostViewCounter(jdbcTemplate, transactionManager, 1, 500);
+		
+		// when
+		limitedCounter.increment(first);
+		limitedCounter.increment(second); // 버림
+		limitedCounter.increment(first);
+		limitedCounter.flush();
+		
+		// then
+		assertThat(viewCount(first)).isEqualTo(2);
+		assertThat(viewCount(second)).isZero();
+	}
+}
@@ -0,0 +1,115 @@
+package com.jpa2.global.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jpa2.global.file.dto.StoredFileDto;
+import com.jpa2.global.file.exception.FileException;
+import com.jpa2.global.file.exception.FileExceptionType;
+
+/**
+ * 스트림 저장 단위 테스트 (file.dir 대신 임시 디렉터리에 저장)
+ */
+class FileServiceImplTest {
+	
+	@TempDir
+	Path tempDir;
+	
+	FileServiceImpl fileService;
+	
+	@BeforeEach
+	void setUp() {
+		fileService = new FileServiceImpl();
+		ReflectionTestUtils.setField(fileService, "fileDir", tempDir.toString() + File.separator);
+	}
+	
+	private int countFiles() {
+		return tempDir.toFile().list().length;
+	}
+	
+	//== Test ==//
+	
+//	스트림 저장: 크기와 SHA-256이 저장된 내용과 같음
+	@Test
+	public void 스트림_파일저장_성공() throws Exception {
+		// given
+		byte[] content = new byte[200_000];
+		new Random(0).nextBytes(content);
+		
+		// when
+		StoredFileDto storedFile = fileService.save(new ByteArrayInputStream(content), content.length);
+		
+		// then
+		File file = new File(storedFile.filePath());
+		assertThat(file.getParentFile().toPath()).isEqualTo(tempDir);
+		assertThat(Files.readAllBytes(file.toPath())).isEqualTo(content);
+		assertThat(storedFile.size()).isEqualTo(content.length);
+		assertThat(storedFile.checksum()).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+	}
+	
+//	스트림 저장: 최대 크기를 넘으면 예외, 중간까지 쓴 파일은 삭제
+	@Test
+	public void 스트림_파일저장_크기초과() throws Exception {
+		// given
+		byte[] content = new byte[200_000];
+		
+		// when, then
+		assertThatThrownBy(() -> fileService.save(new ByteArrayInputStream(content), content.length - 1))
+				.isInstanceOf(FileException.class)
+				.extracting(e -> ((FileException) e).getExceptionType())
+				.isEqualTo(FileExceptionType.FILE_TOO_LARGE);
+		assertThat(countFiles()).isZero();
+	}
+	
+//	스트림 저장: 읽는 도중 끊기면(클라이언트 연결 끊김) 잘못된 요청으로 처리, 중간까지 쓴 파일은 삭제
+	@Test
+	public void 스트림_파일저장_읽기실패() throws Exception {
+		// given
+		InputStream disconnected = new InputStream() {
+			private int remaining = 100_000;
+			
+			@Override
+			public int read() throws IOException {
+				if (remaining == 0) throw new IOException("연결 끊김");
+				remaining--;
+				return 0;
+			}
+		};
+		
+		// when, then
+		assertThatThrownBy(() -> fileService.save(disconnected, 200_000))
+				.isInstanceOf(FileException.class)
+				.extracting(e -> ((FileException) e).getExceptionType())
+				.isEqualTo(FileExceptionType.INVALID_MULTIPART);
+		assertThat(countFiles()).isZero();
+	}
+	
+//	파일 삭제: 없는 파일은 무시
+	@Test
+	public void 스트림_파일삭제() throws Exception {
+		// given
+		StoredFileDto storedFile = fileService.save(new ByteArrayInputStream(new byte[100]), 100);
+		
+		// when
+		fileService.delete(storedFile.filePath());
+		fileService.delete(storedFile.filePath());
+		
+		// then
+		assertThat(countFiles()).isZero();
+	}
+}
@@ -0,0 +1,118 @@
+package com.jpa2.global.file.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class MultipartStreamTest {
+
+	private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+	
+	// 한 번에 chunkSize 바이트씩만 읽히는 스트림 (경계가 버퍼 끝에 걸치는 경우)
+	private InputStream chunked(byte[] body, int chunkSize) {
+		return new FilterInputStream(new ByteArrayInputStream(body)) {
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return super.read(b, off, Math.min(len, chunkSize));
+			}
+		};
+	}
+	
+	private byte[] body(byte[] file) throws IOException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		body.write(("--" + BOUNDARY + "\r\n"
+				+ "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+				+ "제목\r\n"
+				+ "--" + BOUNDARY + "\r\n"
+				+ "Content-Disposition: form-data; name=\"uploadFile\"; filename=\"file.bin\"\r\n"
+				+ "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+		body.write(file);
+		body.write(("\r\n--" + BOUNDARY + "\r\n"
+				+ "Content-Disposition: form-data; name=\"content\"\r\n\r\n"
+				+ "내용\r\n"
+				+ "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+		return body.toByteArray();
+	}
+	
+//	텍스트 파트와 파일 파트를 순서대로 읽음, 파일 내용은 그대로
+	@Test
+	public void 파트_읽기() throws Exception {
+		// given
+		byte[] file = new byte[100_000];
+		new Random(0).nextBytes(file);
+		byte[] partialDelimiter = ("\r\n--" + BOUNDARY.substring(0, 10)).getBytes(StandardCharsets.US_ASCII); // 경계와 앞부분만 같은 내용
+		System.arraycopy(partialDelimiter, 0, file, 50_000, partialDelimiter.length);
+		
+		MultipartStream multipartStream = new MultipartStream(chunked(body(file), 7),
+				MultipartStream.boundaryOf("multipart/form-data; boundary=" + BOUNDARY).orElseThrow());
+		
+		// when
+		MultipartStream.Part title = multipartStream.nextPart();
+		String titleValue = new String(title.content().readAllBytes(), StandardCharsets.UTF_8);
+		MultipartStream.Part uploadFile = multipartStream.nextPart();
+		byte[] uploadFileValue = uploadFile.content().readAllBytes();
+		MultipartStream.Part content = multipartStream.nextPart();
+		String contentValue = new String(content.content().readAllBytes(), StandardCharsets.UTF_8);
+		
+		// then
+		assertThat(title.name()).isEqualTo("title");
+		assertThat(title.isFile()).isFalse();
+		assertThat(titleValue).isEqualTo("제목");
+		assertThat(uploadFile.name()).isEqualTo("uploadFile");
+		assertThat(uploadFile.filename()).isEqualTo("file.bin");
+		assertThat(uploadFile.contentType()).isEqualTo("application/octet-stream");
+		assertThat(uploadFileValue).isEqualTo(file);
+		assertThat(content.name()).isEqualTo("content");
+		assertThat(contentValue).isEqualTo("내용");
+		assertThat(multipartStream.nextPart()).isNull();
+	}
+	
+//	읽지 않은 파트는 다음 파트를 요청할 때 버려짐
+	@Test
+	public void 파트_건너뛰기() throws Exception {
+		// given
+		MultipartStream multipartStream = new MultipartStream(chunked(body(new byte[50_000]), 1024), BOUNDARY);
+		
+		// when
+		multipartStream.nextPart();
+		multipartStream.nextPart(); // 파일 파트를 읽지 않음
+		MultipartStream.Part content = multipartStream.nextPart();
+		
+		// then
+		assertThat(new String(content.content().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("내용");
+		assertThat(multipartStream.nextPart()).isNull();
+	}
+	
+//	마지막 경계 전에 본문이 끝나면 예외
+	@Test
+	public void 본문이_잘린_경우() throws Exception {
+		// given
+		byte[] body = ("--" + BOUNDARY + "\r\n"
+				+ "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+				+ "제목").getBytes(StandardCharsets.UTF_8);
+		MultipartStream multipartStream = new MultipartStream(new ByteArrayInputStream(body), BOUNDARY);
+		
+		// when, then
+		InputStream title = multipartStream.nextPart().content();
+		assertThatThrownBy(title::readAllBytes).isInstanceOf(EOFException.class);
+	}
+	
+//	boundary 추출 (따옴표 유무)
+	@Test
+	public void boundary_추출() throws Exception {
+		assertThat(MultipartStream.boundaryOf("multipart/form-data; boundary=abc")).contains("abc");
+		assertThat(MultipartStream.boundaryOf("multipart/form-data; boundary=\"a b\"; charset=UTF-8")).contains("a b");
+		assertThat(MultipartStream.boundaryOf("application/json")).isEmpty();
+		assertThat(MultipartStream.boundaryOf(null)).isEmpty();
+	}
+}
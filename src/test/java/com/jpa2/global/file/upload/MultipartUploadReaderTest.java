@@ -0,0 +1,254 @@
+package com.jpa2.global.file.upload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jpa2.global.file.dto.MultipartUploadDto;
+import com.jpa2.global.file.exception.FileException;
+import com.jpa2.global.file.exception.FileExceptionType;
+import com.jpa2.global.file.service.FileServiceImpl;
+
+class MultipartUploadReaderTest {
+	
+	private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+	private static final long MAX_FILE_SIZE = 1024;
+	
+	@TempDir
+	Path tempDir;
+	
+	MultipartUploadReader multipartUploadReader;
+	
+	@BeforeEach
+	void setUp() {
+		FileServiceImpl fileService = new FileServiceImpl();
+		ReflectionTestUtils.setField(fileService, "fileDir", tempDir.toString() + File.separator);
+		multipartUploadReader = new MultipartUploadReader(fileService, MAX_FILE_SIZE);
+	}
+	
+	private int countFiles() {
+		return tempDir.toFile().list().length;
+	}
+	
+	private MockHttpServletRequest request(byte[] body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/post/stream");
+		request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+		request.setContent(body);
+		return request;
+	}
+	
+	// Content-Length 없이 오는 요청 (chunked)
+	private MockHttpServletRequest chunkedRequest(byte[] body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/post/stream") {
+			@Override
+			public long getContentLengthLong() {
+				return -1;
+			}
+		};
+		request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+		request.setContent(body);
+		return request;
+	}
+	
+	// 본문을 파트 단위로 만드는 도우미
+	private static class Body {
+		
+		private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		
+		Body field(String name, String value) throws IOException {
+			out.write(("--" + BOUNDARY + "\r\n"
+					+ "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+					+ value + "\r\n").getBytes(StandardCharsets.UTF_8));
+			return this;
+		}
+		
+		Body file(String name, String filename, byte[] content) throws IOException {
+			out.write(("--" + BOUNDARY + "\r\n"
+					+ "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename + "\"\r\n"
+					+ "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+			out.write(content);
+			out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+			return this;
+		}
+		
+		// Content-Disposition에 name이 없는 파트 (읽지 않고 건너뜀)
+		Body unnamed(byte[] content) throws IOException {
+			out.write(("--" + BOUNDARY + "\r\n"
+					+ "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+			out.write(content);
+			out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+			return this;
+		}
+		
+		byte[] build() throws IOException {
+			out.write(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+			return out.toByteArray();
+		}
+	}
+	
+	private void assertFileException(Runnable read, FileExceptionType type) {
+		assertThatThrownBy(read::run)
+				.isInstanceOf(FileException.class)
+				.extracting(e -> ((FileException) e).getExceptionType())
+				.isEqualTo(type);
+	}
+	
+	//== Test ==//
+	
+//	텍스트 필드와 파일을 읽고, 파일은 크기와 SHA-256과 함께 저장
+	@Test
+	public void 업로드_읽기_성공() throws Exception {
+		// given
+		byte[] file = new byte[(int) MAX_FILE_SIZE];
+		new Random(0).nextBytes(file);
+		byte[] body = new Body().field("title", "제목").file("uploadFile", "file.bin", file).field("content", "내용").build();
+		
+		// when
+		MultipartUploadDto upload = multipartUploadReader.read(request(body), "uploadFile");
+		
+		// then
+		assertThat(upload.fields()).containsEntry("title", "제목").containsEntry("content", "내용").hasSize(2);
+		assertThat(upload.file()).isPresent();
+		assertThat(Files.readAllBytes(Path.of(upload.file().get().filePath()))).isEqualTo(file);
+		assertThat(upload.file().get().size()).isEqualTo(file.length);
+		assertThat(upload.file().get().checksum()).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(file)));
+	}
+	
+//	파일을 선택하지 않으면(빈 파일 이름) 파일 없이 필드만 읽음
+	@Test
+	public void 업로드_읽기_파일없음() throws Exception {
+		// given
+		byte[] body = new Body().field("title", "제목").file("uploadFile", "", new byte[0]).field("content", "내용").build();
+		
+		// when
+		MultipartUploadDto upload = multipartUploadReader.read(request(body), "uploadFile");
+		
+		// then
+		assertThat(upload.fields()).hasSize(2);
+		assertThat(upload.file()).isEmpty();
+		assertThat(countFiles()).isZero();
+	}
+	
+//	같은 이름의 필드가 두 번 오면 잘못된 요청, 먼저 저장한 파일은 삭제
+	@Test
+	public void 업로드_읽기_필드중복() throws Exception {
+		// given
+		byte[] body = new Body().field("title", "제목").file("uploadFile", "file.bin", new byte[100]).field("title", "다른 제목").build();
+		
+		// when, then
+		assertFileException(() -> multipartUploadReader.read(request(body), "uploadFile"), FileExceptionType.INVALID_MULTIPART);
+		assertThat(countFiles()).isZero();
+	}
+	
+//	다른 이름의 파일 파트는 잘못된 요청
+	@Test
+	public void 업로드_읽기_파일이름_다름() throws Exception {
+		// given
+		byte[] body = new Body().field("title", "제목").file("other", "file.bin", new byte[100]).build();
+		
+		// when, then
+		assertFileException(() -> multipartUploadReader.read(request(body), "uploadFile"), FileExceptionType.INVALID_MULTIPART);
+		assertThat(countFiles()).isZero();
+	}
+	
+//	파일 파트가 두 개면 잘못된 요청, 먼저 저장한 파일은 삭제
+	@Test
+	public void 업로드_읽기_파일_두개() throws Exception {
+		// given
+		byte[] body = new Body().file("uploadFile", "a.bin", new byte[100]).file("uploadFile", "b.bin", new byte[100]).build();
+		
+		// when, then
+		assertFileException(() -> multipartUploadReader.read(request(body), "uploadFile"), FileExceptionType.INVALID_MULTIPART);
+		assertThat(countFiles()).isZero();
+	}
+	
+//	파일이 최대 크기를 넘으면 예외, 중간까지 쓴 파일은 삭제
+	@Test
+	public void 업로드_읽기_파일크기초과() throws Exception {
+		// given
+		byte[] body = new Body().field("title", "제목").file("uploadFile", "file.bin", new byte[(int) MAX_FILE_SIZE + 1]).build();
+		
+		// when, then
+		assertFileException(() -> multipartUploadReader.read(request(body), "uploadFile"), FileExceptionType.FILE_TOO_LARGE);
+		assertThat(countFiles()).isZero();
+	}
+	
+//	Content-Length가 본문 제한을 넘으면 읽기 전에 거절
+	@Test
+	public void 업로드_읽기_본문크기초과() throws Exception {
+		// given
+		byte[] body = new Body().unnamed(new byte[2 * 1024 * 1024]).build();
+		
+		// when, then
+		assertFileException(() -> multipartUploadReader.read(request(body), "uploadFile"), FileExceptionType.FILE_TOO_LARGE);
+		assertThat(countFiles()).isZero();
+	}
+	
+//	Content-Length 없이 건너뛰는 파트만 계속 보내도 읽은 크기로 제한, 먼저 저장한 파일은 삭제
+	@Test
+	public void 업로드_읽기_본문크기초과_chunked() throws Exception {
+		// given
+		Body body = new Body().file("uploadFile", "file.bin", new byte[100]);
+		for (int i = 0; i < 64; i++) {
+			body.unnamed(new byte[32 * 1024]);
+		}
+		
+		// when, then
+		assertFileException(() -> multipartUploadReader.read(chunkedRequest(body.build()), "uploadFile"), FileExceptionType.FILE_TOO_LARGE);
+		assertThat(countFiles()).isZero();
+	}
+	
+//	본문이 경계 없이 끝나면(연결 끊김) 잘못된 요청, 먼저 저장한 파일은 삭제
+	@Test
+	public void 업로드_읽기_본문끊김() throws Exception {
+		// given
+		byte[] complete = new Body().file("uploadFile", "file.bin", new byte[100]).field("title", "제목").build();
+		byte[] body = Arrays.copyOf(complete, complete.length - 20);
+		
+		// when, then
+		assertFileException(() -> multipartUploadReader.read(request(body), "uploadFile"), FileExceptionType.INVALID_MULTIPART);
+		assertThat(countFiles()).isZero();
+	}
+	
+//	boundary가 없는 Content-Type은 잘못된 요청
+	@Test
+	public void 업로드_읽기_boundary없음() throws Exception {
+		// given
+		MockHttpServletRequest request = request(new Body().field("title", "제목").build());
+		request.setContentType("multipart/form-data");
+		
+		// when, then
+		assertFileException(() -> multipartUploadReader.read(request, "uploadFile"), FileExceptionType.INVALID_MULTIPART);
+	}
+	
+//	저장 이후 처리에 실패하면 discard()로 파일 삭제
+	@Test
+	public void 업로드_취소() throws Exception {
+		// given
+		byte[] body = new Body().field("title", "제목").file("uploadFile", "file.bin", new byte[100]).build();
+		MultipartUploadDto upload = multipartUploadReader.read(request(body), "uploadFile");
+		assertThat(countFiles()).isEqualTo(1);
+		
+		// when
+		multipartUploadReader.discard(upload);
+		
+		// then
+		assertThat(countFiles()).isZero();
+	}
+}
@@ -0,0 +1,159 @@
+package com.jpa2.global.jwt.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.cache.MemberPrincipal;
+import com.jpa2.domain.member.cache.MemberPrincipalCache;
+import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.member.token.RefreshTokenStore;
+import com.jpa2.global.jwt.cache.VerifiedTokenCache;
+import com.jpa2.global.jwt.revocation.AccessTokenRevocations;
+import com.jpa2.global.jwt.revocation.MemberVersionRevocations;
+import com.jpa2.global.jwt.service.JwtService;
+import com.jpa2.global.jwt.service.JwtServiceImpl;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * AccessToken 인증 필터(JwtAuthenticationProcessingFilter) 처리량 비교, 둘 다 실제 필터로 측정
+ *
+ * 캐시 끔: VerifiedTokenCache(max-size=0)를 쓰는 JwtService로 만든 필터 -> 요청마다 서명 검증
+ * 캐시 켬: 빈으로 등록된 필터 (VerifiedTokenCache 사용)
+ *
+ * 토큰 하나만 쓰면 캐시 적중만 재게 되므로 서로 다른 토큰 TOKENS개를 돌아가며 사용
+ * (클라이언트마다 토큰이 다르고, 한 토큰으로 여러 번 요청하는 상황)
+ *
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+class JwtFilterBenchmark {
+
+	@Autowired
+	private JwtAuthenticationProcessingFilter filter;
+
+	@Autowired
+	private JwtService jwtService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private RefreshTokenStore refreshTokenStore;
+
+	@Autowired
+	private MemberPrincipalCache memberPrincipalCache;
+
+	@Autowired
+	private MemberVersionRevocations memberVersionRevocations;
+
+	@Autowired
+	private AccessTokenRevocations accessTokenRevocations;
+
+	@Autowired
+	private AutowireCapableBeanFactory beanFactory;
+
+	@Autowired
+	private EntityManager em;
+
+	@Value("${jwt.access.header}")
+	private String accessHeader;
+	@Value("${jwt.access.stateless:false}")
+	private boolean statelessAccessToken;
+
+	private static final String USERNAME = "benchmark";
+	private static final String BEARER = "Bearer ";
+	private static final int TOKENS = 1_000;
+	private static final int WARM_UP_ROUNDS = 2_000;
+	private static final int ROUNDS = 20_000;
+
+	private final List<String> accessTokens = new ArrayList<>();
+
+	private JwtAuthenticationProcessingFilter uncachedFilter;
+
+	@BeforeEach
+	void setUp() {
+		Member member = memberRepository.save(Member.builder()
+				.username(USERNAME)
+				.password("1234567890")
+				.name("BENCH")
+				.nickName("BENCH")
+				.role(Role.USER)
+				.age(20)
+				.build());
+		em.flush();
+		em.clear();
+
+		for (int i = 0; i < TOKENS; i++) {
+			accessTokens.add(jwtService.createAccessToken(MemberPrincipal.of(member))); // jti가 달라서 토큰마다 다름
+		}
+
+		uncachedFilter = new JwtAuthenticationProcessingFilter(uncachedJwtService(), memberRepository, refreshTokenStore, memberPrincipalCache,
+				memberVersionRevocations, accessTokenRevocations, statelessAccessToken);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	public void 필터_처리량() {
+		// warm-up
+		run(uncachedFilter, WARM_UP_ROUNDS);
+		run(filter, WARM_UP_ROUNDS);
+
+		double uncachedOps = run(uncachedFilter, ROUNDS);
+		double cachedOps = run(filter, ROUNDS);
+
+		System.out.printf("[cache off] %,.0f ops/s%n", uncachedOps);
+		System.out.printf("[cache on ] %,.0f ops/s (tokens: %,d)%n", cachedOps, TOKENS);
+
+		assertThat(cachedOps).isGreaterThan(uncachedOps);
+	}
+
+	/**
+	 * 설정값(@Value), @PostConstruct는 빈과 같게 채우고 VerifiedTokenCache만 끈 JwtService
+	 */
+	private JwtService uncachedJwtService() {
+		JwtServiceImpl uncached = new JwtServiceImpl(memberRepository, new VerifiedTokenCache(0), refreshTokenStore);
+		beanFactory.autowireBean(uncached);
+		return (JwtService) beanFactory.initializeBean(uncached, "uncachedJwtService");
+	}
+
+	private double run(JwtAuthenticationProcessingFilter target, int rounds) {
+		long start = System.nanoTime();
+		for (int i = 0; i < rounds; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/post");
+			request.addHeader(accessHeader, BEARER + accessTokens.get(i % TOKENS));
+			try {
+				target.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+			assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+			SecurityContextHolder.clearContext();
+		}
+		return rounds / ((System.nanoTime() - start) / 1_000_000_000.0);
+	}
+}
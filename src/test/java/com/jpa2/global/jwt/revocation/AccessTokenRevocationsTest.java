@@ -0,0 +1,146 @@
+package com.jpa2.global.jwt.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.auth0.jwt.JWT;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jpa2.domain.member.Member;
+import com.jpa2.domain.member.Role;
+import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.member.repository.RevokedAccessTokenRepository;
+
+/**
+ * 폐기 기록은 커밋 후에 메모리에 반영되므로 테스트 트랜잭션 없이 실행하고, 만든 행은 직접 삭제
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AccessTokenRevocationsTest {
+
+	@Autowired
+	AccessTokenRevocations accessTokenRevocations;
+	
+	@Autowired
+	RevokedAccessTokenRepository revokedAccessTokenRepository;
+	
+	@Autowired
+	MemberRepository memberRepository;
+	
+	@Autowired
+	PasswordEncoder passwordEncoder;
+	
+	@Autowired
+	MockMvc mockMvc;
+	
+	@Value("${jwt.access.header}")
+	private String accessHeader;
+	
+	private static final String BEARER = "Bearer ";
+	private static final String USERNAME = "revocationTest";
+	private static final String PASSWORD = "password1234@";
+	
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<String> tokenIds = new ArrayList<>();
+	
+	private String revoke(Instant expiresAt) {
+		String tokenId = UUID.randomUUID().toString();
+		tokenIds.add(tokenId);
+		accessTokenRevocations.revoke(tokenId, expiresAt);
+		
+		return tokenId;
+	}
+	
+	@AfterEach
+	void tearDown() {
+		revokedAccessTokenRepository.deleteAllInBatch(revokedAccessTokenRepository.findAll().stream()
+				.filter(token -> tokenIds.contains(token.getTokenId()))
+				.toList());
+		memberRepository.findByUsername(USERNAME).ifPresent(memberRepository::delete);
+	}
+	
+	//== Test ==//
+	
+//	폐기한 토큰만 거부
+	@Test
+	public void 폐기한_토큰_거부() throws Exception {
+		// given, when
+		String revoked = revoke(Instant.now().plusSeconds(3600));
+		
+		// then
+		assertThat(accessTokenRevocations.isRevoked(revoked)).isTrue();
+		assertThat(accessTokenRevocations.isRevoked(UUID.randomUUID().toString())).isFalse();
+		assertThat(accessTokenRevocations.isRevoked(null)).isFalse(); // jti가 없는 이전 형식의 토큰
+		assertThat(revokedAccessTokenRepository.findByExpiresAtAfter(LocalDateTime.now()))
+				.anyMatch(token -> token.getTokenId().equals(revoked));
+	}
+	
+//	만료된 토큰의 기록은 메모리와 테이블에서 삭제, 만료되지 않은 기록은 유지
+	@Test
+	public void 만료된_기록_정리() throws Exception {
+		// given
+		String expired = revoke(Instant.now().minusSeconds(1));
+		String alive = revoke(Instant.now().plusSeconds(3600));
+		assertThat(accessTokenRevocations.isRevoked(expired)).isTrue();
+		
+		// when
+		accessTokenRevocations.prune();
+		
+		// then
+		assertThat(accessTokenRevocations.isRevoked(expired)).isFalse();
+		assertThat(accessTokenRevocations.isRevoked(alive)).isTrue();
+		assertThat(revokedAccessTokenRepository.findAll()).noneMatch(token -> token.getTokenId().equals(expired));
+	}
+	
+//	로그아웃하면 그 AccessToken으로는 인증되지 않음
+	@Test
+	public void 로그아웃한_토큰_거부() throws Exception {
+		// given
+		memberRepository.save(Member.builder()
+				.username(USERNAME)
+				.password(passwordEncoder.encode(PASSWORD))
+				.name("name")
+				.nickName("nickName")
+				.role(Role.USER)
+				.age(20)
+				.build());
+		
+		String accessToken = mockMvc.perform(
+				post("/login")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(Map.of("username", USERNAME, "password", PASSWORD))))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader(accessHeader);
+		tokenIds.add(JWT.decode(accessToken).getId());
+		
+		mockMvc.perform(get("/member").header(accessHeader, BEARER + accessToken))
+			.andExpect(status().isOk());
+		
+		// when
+		mockMvc.perform(post("/member/logout").header(accessHeader, BEARER + accessToken))
+			.andExpect(status().isOk());
+		
+		// then
+		assertThat(accessTokenRevocations.isRevoked(JWT.decode(accessToken).getId())).isTrue();
+		mockMvc.perform(get("/member").header(accessHeader, BEARER + accessToken))
+			.andExpect(status().isForbidden());
+	}
+}
@@ -0,0 +1,67 @@
+package com.jpa2.global.jwt.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	private static final int CAPACITY = 10_000;
+	private static final double FALSE_POSITIVE_RATE = 0.01;
+	
+//	넣은 id는 항상 포함 (UUID가 아닌 id 포함)
+	@Test
+	public void 넣은_값은_항상_포함() throws Exception {
+		// given
+		BloomFilter bloomFilter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+		List<String> tokenIds = new ArrayList<>();
+		for (int i = 0; i < CAPACITY; i++) {
+			tokenIds.add(UUID.randomUUID().toString());
+		}
+		for (int i = 0; i < 1_000; i++) {
+			tokenIds.add("token-" + i);
+		}
+		
+		// when
+		tokenIds.forEach(bloomFilter::put);
+		
+		// then
+		assertThat(tokenIds).allMatch(bloomFilter::mightContain);
+	}
+	
+//	용량만큼 넣었을 때 넣지 않은 id의 오탐률이 설정값 근처
+	@Test
+	public void 오탐률() throws Exception {
+		// given
+		BloomFilter bloomFilter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+		for (int i = 0; i < CAPACITY; i++) {
+			bloomFilter.put(UUID.randomUUID().toString());
+		}
+		
+		// when
+		int trials = 100_000;
+		int falsePositives = 0;
+		for (int i = 0; i < trials; i++) {
+			if (bloomFilter.mightContain(UUID.randomUUID().toString())) falsePositives++;
+		}
+		
+		// then
+		assertThat((double) falsePositives / trials).isLessThan(FALSE_POSITIVE_RATE * 2);
+	}
+	
+//	아무것도 넣지 않은 필터는 모두 false
+	@Test
+	public void 빈_필터() throws Exception {
+		// given
+		BloomFilter bloomFilter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+		
+		// when, then
+		for (int i = 0; i < 1_000; i++) {
+			assertThat(bloomFilter.mightContain(UUID.randomUUID().toString())).isFalse();
+		}
+	}
+}
@@ -20,6 +20,7 @@ import com.auth0.jwt.interfaces.DecodedJWT;
 import com.jpa2.domain.member.Member;
 import com.jpa2.domain.member.Role;
 import com.jpa2.domain.member.repository.MemberRepository;
+import com.jpa2.domain.member.token.RefreshTokenStore;
 
 import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.HttpServletRequest;
@@ -33,6 +34,8 @@ class JwtServiceTest {
 	@Autowired
 	MemberRepository memberRepository;
 	@Autowired
+	RefreshTokenStore refreshTokenStore;
+	@Autowired
 	EntityManager em;
 	
 	@Value("${jwt.secret}")
@@ -122,7 +125,7 @@ class JwtServiceTest {
 		assertThat(username).isNull();
 	}
 	
-//	RefreshToken 업데이트
+//	RefreshToken 업데이트 -> 세션 추가 (이전 세션도 유지)
 //	@Test
 	public void updateRefreshToken_refreshToken_업데이트() throws Exception {
 		// given
@@ -137,8 +140,9 @@ class JwtServiceTest {
 		clear();
 		
 		// then
-		assertThrows(Exception.class, () -> memberRepository.findByRefreshToken(refreshToken).get());
-		assertThat(memberRepository.findByRefreshToken(reIssuedRefreshToken).get().getUsername()).isEqualTo(username);
+		Long memberId = memberRepository.findByUsername(username).get().getId();
+		assertThat(refreshTokenStore.findMemberId(refreshToken)).contains(memberId);
+		assertThat(refreshTokenStore.findMemberId(reIssuedRefreshToken)).contains(memberId);
 	}
 	
 //	RefreshToken 제거
@@ -154,11 +158,8 @@ class JwtServiceTest {
 		clear();
 		
 		// then
-		assertThrows(Exception.class, () -> memberRepository.findByRefreshToken(refreshToken).get());
+		assertThrows(Exception.class, () -> refreshTokenStore.findMemberId(refreshToken).get());
 		// refreshToken으로 회원 정보를 조회할 때, 해당 토큰이 더 이상 유효하지 않으므로 예외가 발생해야 함
-		
-		Member member = memberRepository.findByUsername(username).get(); // 유저 객체 받아옴
-		assertThat(member.getRefreshToken()).isNull(); // 유저에게 토큰이 있는지 최종 확인
 	}
 	
 //	토큰 유효성 검사
@@ -0,0 +1,62 @@
+package com.jpa2.global.login.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LoginRateLimiterTest {
+
+	private final LoginRateLimiter loginRateLimiter = new LoginRateLimiter(3, 3, 2, 2, 1000);
+	
+//	버킷 크기만큼 실패하면 그 다음부터 거절
+	@Test
+	public void 실패_횟수_초과() throws Exception {
+		// given
+		assertThat(loginRateLimiter.isUsernameBlocked("username", "127.0.0.1")).isFalse();
+		loginRateLimiter.recordUsernameFailure("username", "127.0.0.1");
+		assertThat(loginRateLimiter.isUsernameBlocked("username", "127.0.0.1")).isFalse();
+		
+		// when
+		loginRateLimiter.recordUsernameFailure("username", "127.0.0.1");
+		
+		// then
+		assertThat(loginRateLimiter.isUsernameBlocked("username", "127.0.0.1")).isTrue();
+	}
+	
+//	확인만 해서는(성공한 로그인) 토큰을 사용하지 않음
+	@Test
+	public void 확인은_토큰을_사용하지_않음() throws Exception {
+		// given, when
+		for (int i = 0; i < 10; i++) {
+			loginRateLimiter.isUsernameBlocked("username", "127.0.0.1");
+		}
+		
+		// then
+		assertThat(loginRateLimiter.isUsernameBlocked("username", "127.0.0.1")).isFalse();
+	}
+	
+//	다른 주소에서 실패해도 원래 사용자의 로그인은 막히지 않음
+	@Test
+	public void 다른_주소의_실패는_따로_셈() throws Exception {
+		// given
+		loginRateLimiter.recordUsernameFailure("username", "10.0.0.1");
+		loginRateLimiter.recordUsernameFailure("username", "10.0.0.1");
+		
+		// when, then
+		assertThat(loginRateLimiter.isUsernameBlocked("username", "10.0.0.1")).isTrue();
+		assertThat(loginRateLimiter.isUsernameBlocked("username", "127.0.0.1")).isFalse();
+	}
+	
+//	주소별 제한은 모든 시도를 셈, 주소마다 따로
+	@Test
+	public void 주소별_제한() throws Exception {
+		// given
+		for (int i = 0; i < 3; i++) {
+			loginRateLimiter.tryAcquireAddress("127.0.0.1");
+		}
+		
+		// when, then
+		assertThat(loginRateLimiter.tryAcquireAddress("127.0.0.1")).isFalse();
+		assertThat(loginRateLimiter.tryAcquireAddress("127.0.0.2")).isTrue();
+	}
+}
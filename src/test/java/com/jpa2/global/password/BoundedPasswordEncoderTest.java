@@ -0,0 +1,108 @@
+package com.jpa2.global.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.jpa2.global.password.exception.PasswordException;
+import com.jpa2.global.password.exception.PasswordExceptionType;
+
+class BoundedPasswordEncoderTest {
+
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	
+	// release 전까지 해시 계산이 끝나지 않는 인코더
+	private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+		@Override
+		public String encode(CharSequence rawPassword) {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "encoded-" + rawPassword;
+		}
+		
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			return encode(rawPassword).equals(encodedPassword);
+		}
+		
+		@Override
+		public boolean upgradeEncoding(String encodedPassword) {
+			return true;
+		}
+	};
+	
+	private final BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(slowEncoder, 1, 1);
+	
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		passwordEncoder.shutdown();
+	}
+	
+//	스레드와 대기열이 모두 차면 기다리지 않고 바로 HASHING_BUSY
+	@Test
+	public void 대기열이_가득차면_바로_거절() throws Exception {
+		// given
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("1")); // 스레드 점유
+		started.await(1, TimeUnit.SECONDS);
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("2")); // 대기열 점유
+		Thread.sleep(100);
+		
+		// when, then
+		assertThatThrownBy(() -> passwordEncoder.encode("3"))
+				.isInstanceOf(PasswordException.class)
+				.extracting(e -> ((PasswordException) e).getExceptionType())
+				.isEqualTo(PasswordExceptionType.HASHING_BUSY);
+		
+		release.countDown();
+		assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("encoded-1");
+		assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("encoded-2");
+	}
+	
+//	대기 중인 해시가 있으면 다시 해시하지 않음 (로그인 성공 후 encode에서 HASHING_BUSY가 나지 않도록)
+	@Test
+	public void 여유가_없으면_다시_해시하지_않음() throws Exception {
+		// given
+		assertThat(passwordEncoder.upgradeEncoding("encoded")).isTrue();
+		
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("1")); // 스레드 점유
+		started.await(1, TimeUnit.SECONDS);
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("2")); // 대기열 점유
+		Thread.sleep(100);
+		
+		// when, then
+		assertThat(passwordEncoder.upgradeEncoding("encoded")).isFalse();
+		
+		release.countDown();
+		running.get(1, TimeUnit.SECONDS);
+		queued.get(1, TimeUnit.SECONDS);
+		assertThat(passwordEncoder.upgradeEncoding("encoded")).isTrue();
+	}
+	
+//	여유가 있으면 위임한 인코더의 결과를 그대로 반환
+	@Test
+	public void 해시_위임() throws Exception {
+		// given
+		release.countDown();
+		
+		// when
+		String encoded = passwordEncoder.encode("password");
+		
+		// then
+		assertThat(encoded).isEqualTo("encoded-password");
+		assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+		assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+	}
+}
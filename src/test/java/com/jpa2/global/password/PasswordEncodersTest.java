@@ -0,0 +1,55 @@
+package com.jpa2.global.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+class PasswordEncodersTest {
+
+	private static final String PASSWORD = "password1234!";
+	
+//	bcrypt cost가 설정과 다르면(높든 낮든) 다시 해시 대상
+	@Test
+	public void bcrypt_cost_변경() throws Exception {
+		// given
+		String encoded = PasswordEncoders.create(PasswordEncoders.BCRYPT, 5).encode(PASSWORD);
+		
+		// when, then
+		assertThat(PasswordEncoders.create(PasswordEncoders.BCRYPT, 5).upgradeEncoding(encoded)).isFalse();
+		assertThat(PasswordEncoders.create(PasswordEncoders.BCRYPT, 6).upgradeEncoding(encoded)).isTrue();
+		assertThat(PasswordEncoders.create(PasswordEncoders.BCRYPT, 4).upgradeEncoding(encoded)).isTrue();
+	}
+	
+//	방식을 바꿔도 기존 해시로 로그인할 수 있고, 다시 해시 대상이 됨
+	@Test
+	public void 해시_방식_변경() throws Exception {
+		// given
+		String legacy = PasswordEncoderFactories.createDelegatingPasswordEncoder().encode(PASSWORD); // {bcrypt}, strength 10
+		
+		// when
+		PasswordEncoder passwordEncoder = PasswordEncoders.create(PasswordEncoders.PBKDF2, 10);
+		
+		// then
+		assertThat(passwordEncoder.matches(PASSWORD, legacy)).isTrue();
+		assertThat(passwordEncoder.upgradeEncoding(legacy)).isTrue();
+		assertThat(passwordEncoder.encode(PASSWORD)).startsWith("{pbkdf2@SpringSecurity_v5_8}");
+	}
+	
+//	{pbkdf2}는 PasswordEncoderFactories와 같이 v5.5 기본값으로 검사하고, 다시 해시 대상이 됨
+	@Test
+	public void pbkdf2_이전_해시() throws Exception {
+		// given
+		String legacy = "{pbkdf2}" + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_5().encode(PASSWORD);
+		
+		// when
+		PasswordEncoder passwordEncoder = PasswordEncoders.create(PasswordEncoders.PBKDF2, 10);
+		
+		// then
+		assertThat(passwordEncoder.matches(PASSWORD, legacy)).isTrue();
+		assertThat(passwordEncoder.upgradeEncoding(legacy)).isTrue();
+		assertThat(PasswordEncoderFactories.createDelegatingPasswordEncoder().matches(PASSWORD, passwordEncoder.encode(PASSWORD))).isTrue();
+	}
+}
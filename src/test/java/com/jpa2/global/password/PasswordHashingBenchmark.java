@@ -0,0 +1,46 @@
+package com.jpa2.global.password;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해시 설정(password.hashing.algorithm, bcrypt-strength)별 초당 해시 수
+ * 로그인 p99 목표에 맞는 cost를 고를 때 참고 (로그인 1번 = matches 1번)
+ *
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class PasswordHashingBenchmark {
+
+	private static final String PASSWORD = "password1234!";
+	private static final long MEASURE_NANOS = 2_000_000_000L; // 설정마다 2초씩 측정
+
+	@Test
+	public void 설정별_초당_해시_수() throws Exception {
+		measure(PasswordEncoders.BCRYPT + " (strength 8)", PasswordEncoders.create(PasswordEncoders.BCRYPT, 8));
+		measure(PasswordEncoders.BCRYPT + " (strength 10)", PasswordEncoders.create(PasswordEncoders.BCRYPT, 10));
+		measure(PasswordEncoders.BCRYPT + " (strength 12)", PasswordEncoders.create(PasswordEncoders.BCRYPT, 12));
+		measure(PasswordEncoders.PBKDF2, PasswordEncoders.create(PasswordEncoders.PBKDF2, 10));
+	}
+
+	private void measure(String setting, PasswordEncoder passwordEncoder) {
+		String encoded = passwordEncoder.encode(PASSWORD); // warm-up
+
+		double encodeOps = run(() -> passwordEncoder.encode(PASSWORD));
+		double matchesOps = run(() -> passwordEncoder.matches(PASSWORD, encoded));
+
+		System.out.printf("[%-20s] encode %,8.1f hashes/s, matches %,8.1f hashes/s (%.1fms/login)%n",
+				setting, encodeOps, matchesOps, 1000 / matchesOps);
+	}
+
+	private double run(Runnable task) {
+		long start = System.nanoTime();
+		long count = 0;
+		while (System.nanoTime() - start < MEASURE_NANOS) {
+			task.run();
+			count++;
+		}
+		return count / ((System.nanoTime() - start) / 1_000_000_000.0);
+	}
+}